@@ -0,0 +1,78 @@
+package com.clinica.aura.benchmark;
+
+import com.clinica.aura.config.jwt.AuthenticatedUser;
+import com.clinica.aura.config.jwt.AuthorityRegistry;
+import com.clinica.aura.config.jwt.JwtAuthentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la construcción del SecurityContext por solicitud en JwtTokenValidator:
+ * <ul>
+ *     <li>{@code perRequestParse}: camino anterior, que parsea el claim "authorities" con
+ *     {@link AuthorityUtils#commaSeparatedStringToAuthorityList} y arma un
+ *     {@link UsernamePasswordAuthenticationToken} (que además copia la lista).</li>
+ *     <li>{@code internedRegistry}: camino actual, con la lista compartida de {@link AuthorityRegistry}
+ *     y {@link JwtAuthentication}.</li>
+ * </ul>
+ * Con el perfil por defecto ({@code -prof gc}) se informa también la asignación por operación
+ * (gc.alloc.rate.norm), que es la métrica que motivó el cambio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AuthorityResolutionBenchmark {
+
+    /** Claims representativos: un rol con sus permisos y un usuario con dos roles. */
+    @Param({
+            "ROLE_PROFESSIONAL,READ,CREATE,UPDATE",
+            "ROLE_ADMIN,ROLE_PROFESSIONAL,READ,CREATE,UPDATE,DELETE"
+    })
+    public String authorities;
+
+    private AuthorityRegistry registry;
+    private AuthenticatedUser principal;
+
+    @Setup
+    public void setUp() {
+        // resolve() no usa la copia de permisos por rol; solo la expansión de perfiles compactos la necesita
+        registry = new AuthorityRegistry(null);
+        ReflectionTestUtils.setField(registry, "maxInterned", 256);
+        registry.resolve(authorities);
+        principal = new AuthenticatedUser("profesional@example.com", 1L);
+    }
+
+    @Benchmark
+    public SecurityContext perRequestParse() {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal.email(), null, AuthorityUtils.commaSeparatedStringToAuthorityList(authorities)));
+        return context;
+    }
+
+    @Benchmark
+    public SecurityContext internedRegistry() {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new JwtAuthentication(principal, registry.resolve(authorities)));
+        return context;
+    }
+}
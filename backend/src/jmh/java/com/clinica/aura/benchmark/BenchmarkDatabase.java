@@ -0,0 +1,65 @@
+package com.clinica.aura.benchmark;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base de datos PostgreSQL para los benchmarks de escritura.
+ *
+ * Por defecto levanta un contenedor con Testcontainers (requiere Docker). Para medir contra una
+ * base existente se pueden pasar {@code -Dbench.db.url}, {@code -Dbench.db.user} y
+ * {@code -Dbench.db.password} en jmh.args (por ejemplo {@code -jvmArgs -Dbench.db.url=...}).
+ * La base debe estar vacía o ser descartable: los benchmarks crean tablas y cargan datos.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String IMAGE = "postgres:16-alpine";
+
+    private final PostgreSQLContainer<?> container;
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private BenchmarkDatabase(PostgreSQLContainer<?> container, String url, String user, String password) {
+        this.container = container;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    static BenchmarkDatabase start() {
+        String externalUrl = System.getProperty("bench.db.url");
+        if (externalUrl != null && !externalUrl.isBlank()) {
+            return new BenchmarkDatabase(null, externalUrl,
+                    System.getProperty("bench.db.user", "postgres"), System.getProperty("bench.db.password", ""));
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE);
+        container.start();
+        return new BenchmarkDatabase(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    String url() {
+        return url;
+    }
+
+    /**
+     * URL con la reescritura de inserciones en lote del driver (reWriteBatchedInserts) activada o no.
+     */
+    String url(boolean rewriteBatchedInserts) {
+        return url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=" + rewriteBatchedInserts;
+    }
+
+    String user() {
+        return user;
+    }
+
+    String password() {
+        return password;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
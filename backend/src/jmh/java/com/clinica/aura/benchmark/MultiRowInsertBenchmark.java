@@ -0,0 +1,165 @@
+package com.clinica.aura.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritura de varias filas con las dos estrategias de ids, a nivel JDBC:
+ * <ul>
+ *     <li>{@code identityPerRow}: antes, con columnas IDENTITY. Hibernate necesita el id generado de
+ *     cada fila, así que emite un INSERT ... RETURNING por fila, sin lotes.</li>
+ *     <li>{@code pooledBatched}: ahora, con secuencias y optimizador pooled (allocationSize = 50).
+ *     Los ids se reservan de a bloques con un nextval cada 50 filas y los INSERT van en un lote JDBC.</li>
+ *     <li>{@code pooledBatchedRewrite}: igual, con reWriteBatchedInserts del driver, que convierte el
+ *     lote en INSERT de varias filas (configuración actual de la aplicación).</li>
+ * </ul>
+ * Cada operación inserta {@code rows} filas en una transacción confirmada; las tablas se vacían
+ * entre iteraciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiRowInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"50", "500"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private Connection plainConnection;
+    private Connection rewriteConnection;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws SQLException {
+        database = BenchmarkDatabase.start();
+        plainConnection = DriverManager.getConnection(database.url(false), database.user(), database.password());
+        rewriteConnection = DriverManager.getConnection(database.url(true), database.user(), database.password());
+        try (Statement statement = plainConnection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_person_identity (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        dni VARCHAR(255), name VARCHAR(255), last_name VARCHAR(255), search_name VARCHAR(255))
+                    """);
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_person_pooled (
+                        id BIGINT PRIMARY KEY,
+                        dni VARCHAR(255), name VARCHAR(255), last_name VARCHAR(255), search_name VARCHAR(255))
+                    """);
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS bench_person_seq START WITH 50 INCREMENT BY 50");
+        }
+        plainConnection.setAutoCommit(false);
+        rewriteConnection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = plainConnection.createStatement()) {
+            statement.execute("TRUNCATE bench_person_identity, bench_person_pooled");
+        }
+        plainConnection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws SQLException {
+        plainConnection.close();
+        rewriteConnection.close();
+        database.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long last = 0;
+        try (PreparedStatement insert = plainConnection.prepareStatement(
+                "INSERT INTO bench_person_identity (dni, name, last_name, search_name) VALUES (?, ?, ?, ?) RETURNING id")) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, ++sequence);
+                try (ResultSet generated = insert.executeQuery()) {
+                    generated.next();
+                    last = generated.getLong(1);
+                }
+            }
+        }
+        plainConnection.commit();
+        return last;
+    }
+
+    @Benchmark
+    public int pooledBatched() throws SQLException {
+        return insertPooled(plainConnection);
+    }
+
+    @Benchmark
+    public int pooledBatchedRewrite() throws SQLException {
+        return insertPooled(rewriteConnection);
+    }
+
+    private int insertPooled(Connection connection) throws SQLException {
+        List<Long> ids = reserveIds(connection, rows);
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_person_pooled (id, dni, name, last_name, search_name) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setLong(1, ids.get(i));
+                bind(insert, 2, ++sequence);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0 || i == rows - 1) {
+                    inserted += insert.executeBatch().length;
+                }
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    /**
+     * Reserva ids como el optimizador pooled: un nextval por bloque de {@value #ALLOCATION_SIZE}.
+     */
+    private static List<Long> reserveIds(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('bench_person_seq')")) {
+            while (ids.size() < count) {
+                try (ResultSet rs = nextval.executeQuery()) {
+                    rs.next();
+                    long upper = rs.getLong(1);
+                    for (long id = upper - ALLOCATION_SIZE + 1; id <= upper && ids.size() < count; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void bind(PreparedStatement insert, int firstIndex, long n) throws SQLException {
+        insert.setString(firstIndex, String.format("%08d", n));
+        insert.setString(firstIndex + 1, "Nombre" + n);
+        insert.setString(firstIndex + 2, "Apellido" + n);
+        insert.setString(firstIndex + 3, "nombre" + n + " apellido" + n);
+    }
+}
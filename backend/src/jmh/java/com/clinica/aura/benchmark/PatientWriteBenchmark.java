@@ -0,0 +1,125 @@
+package com.clinica.aura.benchmark;
+
+import com.clinica.aura.AuraApplication;
+import com.clinica.aura.modules.patient.dto.PatientRequestDto;
+import com.clinica.aura.modules.patient.repository.PatientBulkRepository;
+import com.clinica.aura.modules.patient.service.PatientService;
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
+import com.clinica.aura.modules.user_account.repository.RoleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caminos de escritura de pacientes con la aplicación completa (Flyway, Hibernate, Hikari) sobre
+ * PostgreSQL real:
+ * <ul>
+ *     <li>{@code createUser}: alta individual por {@link PatientService#createUser}.</li>
+ *     <li>{@code bulkInsert}: alta de {@value #BULK_SIZE} pacientes por
+ *     {@link PatientBulkRepository#insertPatients} en una transacción, como la importación.</li>
+ * </ul>
+ * {@code batching=false} desactiva hibernate.jdbc.batch_size y reWriteBatchedInserts para comparar
+ * contra la escritura fila a fila. La comparación antes/después completa se obtiene ejecutando este
+ * mismo benchmark sobre el commit anterior al cambio de generación de ids; la diferencia a nivel
+ * JDBC aislada está en {@link MultiRowInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PatientWriteBenchmark {
+
+    private static final int BULK_SIZE = 100;
+
+    @Param({"true", "false"})
+    public boolean batching;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private BenchmarkDatabase database;
+    private ConfigurableApplicationContext context;
+    private PatientService patientService;
+    private PatientBulkRepository patientBulkRepository;
+    private TransactionTemplate transactionTemplate;
+    private long patientRoleId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        database = BenchmarkDatabase.start();
+        context = new SpringApplicationBuilder(AuraApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "DB_URL=" + database.url(),
+                        "DB_USER=" + database.user(),
+                        "DB_PASSWORD=" + database.password(),
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + (batching ? 50 : 0),
+                        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=" + batching)
+                .run();
+        patientService = context.getBean(PatientService.class);
+        patientBulkRepository = context.getBean(PatientBulkRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        patientRoleId = context.getBean(RoleRepository.class).findByEnumRole(EnumRole.PATIENT)
+                .orElseThrow(() -> new IllegalStateException("El rol PATIENT no está configurado."))
+                .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Object createUser() {
+        return patientService.createUser(newPatient(sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public void bulkInsert() {
+        List<PatientRequestDto> patients = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            patients.add(newPatient(sequence.incrementAndGet()));
+        }
+        transactionTemplate.executeWithoutResult(status -> patientBulkRepository.insertPatients(patients, patientRoleId));
+    }
+
+    private static PatientRequestDto newPatient(long n) {
+        PatientRequestDto dto = new PatientRequestDto();
+        dto.setEmail("bench" + n + "@aura.test");
+        dto.setDni(String.format("%08d", n));
+        dto.setName("Nombre" + n);
+        dto.setLastName("Apellido" + n);
+        dto.setPhoneNumber("1100000000");
+        dto.setBirthDate(LocalDate.of(2015, 1, 1).plusDays(n % 3000));
+        dto.setGenre("F");
+        dto.setHasInsurance(false);
+        dto.setAddress("Calle " + n);
+        dto.setTutorName("Tutor " + n);
+        dto.setRelationToPatient("Madre");
+        return dto;
+    }
+}
@@ -0,0 +1,53 @@
+package com.clinica.aura.config;
+
+import com.clinica.aura.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Completa person.search_name para las filas anteriores a su creación. La columna y su índice
+ * de trigramas se crean con las migraciones de Flyway (V1 y V3); la normalización se hace aquí
+ * porque depende de {@link TextNormalizer}. Los valores completados se copian también al modelo
+ * de lectura patient_summary.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonSearchIndexInitializer {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchNames() {
+        int updated = 0;
+        List<Object[]> batch;
+        do {
+            batch = jdbcTemplate.query(
+                    "SELECT id, name, last_name FROM person WHERE search_name IS NULL LIMIT " + BACKFILL_BATCH_SIZE,
+                    (rs, rowNum) -> new Object[]{
+                            TextNormalizer.normalizeName(rs.getString("name"), rs.getString("last_name")),
+                            rs.getLong("id")});
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE person SET search_name = ? WHERE id = ?", batch);
+                updated += batch.size();
+            }
+        } while (batch.size() == BACKFILL_BATCH_SIZE);
+
+        if (updated > 0) {
+            jdbcTemplate.update("""
+                    UPDATE patient_summary s SET search_name = per.search_name
+                    FROM person per
+                    WHERE per.id = s.id AND s.search_name IS DISTINCT FROM per.search_name
+                    """);
+            log.info("Nombres normalizados completados para {} personas", updated);
+        }
+    }
+}
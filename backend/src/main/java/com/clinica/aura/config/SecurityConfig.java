@@ -1,8 +1,17 @@
 package com.clinica.aura.config;
 
 import com.clinica.aura.config.filters.JwtTokenValidator;
+import com.clinica.aura.config.filters.RateLimitFilter;
+import com.clinica.aura.config.jwt.AuthorityRegistry;
 import com.clinica.aura.config.jwt.JwtUtils;
+import com.clinica.aura.config.jwt.SuspendedUserIndex;
+import com.clinica.aura.config.jwt.TokenRevocationStore;
+import com.clinica.aura.config.password.BoundedPasswordEncoder;
+import com.clinica.aura.config.ratelimit.AuthRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,7 +26,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
@@ -35,9 +43,35 @@ import org.springframework.web.filter.CorsFilter;
 public class SecurityConfig {
 
     private final JwtUtils jwtUtils;
+    private final AuthorityRegistry authorityRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final SuspendedUserIndex suspendedUserIndex;
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint entryPoint;
 
+    /**
+     * Rutas públicas de la documentación de la API (Swagger UI y OpenAPI).
+     */
+    public static final String[] SWAGGER_PATHS = {
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/swagger-resources/**",
+            "/swagger-resources",
+            "/webjars/**"
+    };
+
+    /**
+     * Rutas públicas que solo admiten el método POST (login y registro).
+     */
+    public static final String[] PUBLIC_POST_PATHS = {
+            "/auth/login",
+            "/auth/professional/register",
+            "/auth/receptionist/register"
+    };
+
 
     /**
      * Configura CORS (Cross-Origin Resource Sharing) para permitir solicitudes desde cualquier origen.
@@ -80,8 +114,9 @@ public class SecurityConfig {
      *    - authenticationEntryPoint: Manejador de errores de autenticación
      *    - accessDeniedHandler: Manejador de errores de acceso denegado
      * 6. Gestión de sesiones: Stateless (sin sesión)
-     * 7. JWT: Se agrega el filtro JwtTokenValidator antes del filtro básico
-     * 8. Seguridad de encabezados: Configuración de frameOptions para permitir H2 Console
+     * 7. Límite de tasa: RateLimitFilter limita por IP el login y los registros públicos (429)
+     * 8. JWT: Se agrega el filtro JwtTokenValidator antes del filtro básico (se omite en las rutas públicas)
+     * 9. Seguridad de encabezados: Configuración de frameOptions para permitir H2 Console
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -89,16 +124,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers(HttpMethod.POST,"/auth/login").permitAll()
-                                .requestMatchers(HttpMethod.POST,"/auth/professional/register").permitAll()
-                                .requestMatchers("/swagger-ui.html",
-                                        "/swagger-ui/**",
-                                        "/v3/api-docs/**",
-                                        "/swagger-resources/**",
-                                        "/swagger-resources",
-                                        "/webjars/**"
-                                ).permitAll()
-                                .requestMatchers(HttpMethod.POST,"/auth/receptionist/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, PUBLIC_POST_PATHS).permitAll()
+                                .requestMatchers(SWAGGER_PATHS).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exception -> exception
@@ -108,7 +135,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .addFilterBefore(new JwtTokenValidator(jwtUtils), BasicAuthenticationFilter.class)
+                .addFilterBefore(new RateLimitFilter(authRateLimiter, objectMapper), BasicAuthenticationFilter.class)
+                .addFilterBefore(new JwtTokenValidator(jwtUtils, authorityRegistry, tokenRevocationStore, suspendedUserIndex), BasicAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));
 
         return http.build();
@@ -137,6 +165,7 @@ public class SecurityConfig {
      * Configura el proveedor de autenticación para Spring Security.
      *
      * @param userDetailsService el servicio que proporciona detalles de los usuarios
+     * @param passwordEncoder el codificador de contraseñas configurado
      * @return un DaoAuthenticationProvider configurado para:
      *         - Usar el servicio de detalles de usuario proporcionado
      *         - Encriptar contraseñas con el passwordEncoder configurado
@@ -147,10 +176,11 @@ public class SecurityConfig {
      * 3. Proporcionar los detalles de usuario necesarios para la seguridad
      */
     @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
         return authenticationProvider;
     }
 
@@ -158,6 +188,11 @@ public class SecurityConfig {
     /**
      * Configura el codificador de contraseñas para la aplicación.
      *
+     * @param strength costo de BCrypt (security.password.bcrypt-strength)
+     * @param threads hilos dedicados al hashing (security.password.hash-threads)
+     * @param queueCapacity tareas que pueden esperar turno (security.password.hash-queue-capacity)
+     * @param maxWaitMillis espera máxima por un hash antes de responder 503 (security.password.hash-max-wait-ms)
+     * @param meterRegistry registro de métricas donde se publican latencia y espera en cola
      * @return un PasswordEncoder que utiliza el algoritmo BCrypt
      *
      * Características del codificador:
@@ -165,12 +200,18 @@ public class SecurityConfig {
      * 2. Proporciona seguridad mediante hash y salting
      * 3. Es compatible con el DaoAuthenticationProvider para la autenticación
      * 4. Permite comparación segura de contraseñas en la autenticación
+     * 5. Calcula los hashes en un pool acotado, fuera de los hilos de Tomcat, y rechaza con 503 si se satura
+     * 6. Detecta hashes con un costo distinto al configurado para recalcularlos en el login
      *
      * Nota: BCrypt es un algoritmo recomendado por su resistencia a ataques de fuerza bruta
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:4}") int threads,
+                                           @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password.hash-max-wait-ms:3000}") long maxWaitMillis,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, maxWaitMillis, meterRegistry);
     }
 
 
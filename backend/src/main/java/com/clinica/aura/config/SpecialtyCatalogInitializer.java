@@ -0,0 +1,66 @@
+package com.clinica.aura.config;
+
+import com.clinica.aura.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asigna una entrada del catálogo de especialidades a los profesionales anteriores a su creación
+ * (V8). Las especialidades de texto libre se agrupan por nombre normalizado ({@link TextNormalizer});
+ * de cada grupo se toma como nombre del catálogo la variante más usada, y professional.specialty
+ * se reemplaza por ese nombre canónico.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpecialtyCatalogInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSpecialties() {
+        // Variantes sin asignar, de la más usada a la menos usada
+        List<String> variants = jdbcTemplate.queryForList("""
+                SELECT specialty FROM professional
+                WHERE specialty_id IS NULL AND specialty IS NOT NULL AND btrim(specialty) <> ''
+                GROUP BY specialty
+                ORDER BY COUNT(*) DESC, specialty
+                """, String.class);
+        if (variants.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> canonicalNames = new LinkedHashMap<>();
+        List<Object[]> assignments = new ArrayList<>(variants.size());
+        for (String variant : variants) {
+            String normalizedName = TextNormalizer.normalize(variant);
+            canonicalNames.putIfAbsent(normalizedName, variant.trim());
+            assignments.add(new Object[]{normalizedName, variant});
+        }
+
+        List<Object[]> entries = canonicalNames.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO specialty (id, name, normalized_name)
+                VALUES (nextval('specialty_seq'), ?, ?)
+                ON CONFLICT (normalized_name) DO NOTHING
+                """, entries);
+        jdbcTemplate.batchUpdate("""
+                UPDATE professional pr SET specialty_id = s.id, specialty = s.name
+                FROM specialty s
+                WHERE s.normalized_name = ? AND pr.specialty = ? AND pr.specialty_id IS NULL
+                """, assignments);
+        log.info("Catálogo de especialidades: {} variantes asignadas a {} especialidades",
+                variants.size(), canonicalNames.size());
+    }
+}
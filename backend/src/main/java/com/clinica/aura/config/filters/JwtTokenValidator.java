@@ -1,29 +1,63 @@
 package com.clinica.aura.config.filters;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.clinica.aura.config.SecurityConfig;
+import com.clinica.aura.config.jwt.AuthenticatedUser;
+import com.clinica.aura.config.jwt.AuthorityRegistry;
+import com.clinica.aura.config.jwt.JwtAuthentication;
 import com.clinica.aura.config.jwt.JwtUtils;
+import com.clinica.aura.config.jwt.SuspendedUserIndex;
+import com.clinica.aura.config.jwt.TokenRevocationStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.List;
 
 
 public class JwtTokenValidator extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtUtils jwtUtils;
+    private final AuthorityRegistry authorityRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final SuspendedUserIndex suspendedUserIndex;
 
-    public JwtTokenValidator(JwtUtils jwtUtils) {
+    public JwtTokenValidator(JwtUtils jwtUtils, AuthorityRegistry authorityRegistry,
+                             TokenRevocationStore tokenRevocationStore, SuspendedUserIndex suspendedUserIndex) {
         this.jwtUtils = jwtUtils;
+        this.authorityRegistry = authorityRegistry;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.suspendedUserIndex = suspendedUserIndex;
+    }
+
+    /**
+     * Omite el procesamiento del token en las rutas públicas (permitAll) definidas en {@link SecurityConfig}.
+     *
+     * @param request la solicitud HTTP
+     * @return true si la ruta es pública y no requiere validar el token
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (HttpMethod.POST.matches(request.getMethod())
+                && Arrays.stream(SecurityConfig.PUBLIC_POST_PATHS).anyMatch(pattern -> PATH_MATCHER.match(pattern, path))) {
+            return true;
+        }
+        return Arrays.stream(SecurityConfig.SWAGGER_PATHS).anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
     }
 
     @Override
@@ -73,30 +107,37 @@ public class JwtTokenValidator extends OncePerRequestFilter {
     private void processJwtToken(String jwtToken) {
         DecodedJWT decodedJWT = jwtUtils.validateToken(jwtToken);
 
+        if (tokenRevocationStore.isRevoked(decodedJWT)) {
+            throw new JWTVerificationException("Token revocado, inicie sesión nuevamente");
+        }
+
         String username = jwtUtils.extractUsername(decodedJWT);
-        String authorities = jwtUtils.getSpecificClaim(decodedJWT, "authorities").asString();
 
-        setSecurityContext(username, authorities);
+        if (suspendedUserIndex.isSuspended(username)) {
+            throw new JWTVerificationException("Usuario suspendido");
+        }
+        Long professionalId = jwtUtils.getProfessionalId(decodedJWT);
+
+        Claim authoritiesClaim = jwtUtils.getSpecificClaim(decodedJWT, "authorities");
+        List<GrantedAuthority> authorities = !authoritiesClaim.isMissing()
+                ? authorityRegistry.resolve(authoritiesClaim.asString())
+                : authorityRegistry.resolveCompact(jwtUtils.getSpecificClaim(decodedJWT, JwtUtils.COMPACT_ROLES_CLAIM).asString());
+
+        setSecurityContext(new AuthenticatedUser(username, professionalId), authorities);
     }
 
     /**
-     * Establece el contexto de seguridad con la información del usuario autenticado.
+     * Establece el contexto de seguridad con la información del usuario autenticado.
+     * Las autoridades provienen del registro compartido, sin volver a parsear la cadena del claim.
      *
-     * @param username el nombre de usuario autenticado
-     * @param authorities las autoridades del usuario autenticado
+     * @param principal el usuario autenticado (email e id de profesional, si lo tiene)
+     * @param authorities las autoridades compartidas del usuario autenticado
      */
 
-    private void setSecurityContext(String username, String authorities) {
-        Collection<? extends GrantedAuthority> grantedAuthorities =
-                AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                username,
-                null,
-                grantedAuthorities
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private void setSecurityContext(AuthenticatedUser principal, List<GrantedAuthority> authorities) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new JwtAuthentication(principal, authorities));
+        SecurityContextHolder.setContext(context);
     }
 
     /**
@@ -0,0 +1,64 @@
+package com.clinica.aura.config.filters;
+
+import com.clinica.aura.config.SecurityConfig;
+import com.clinica.aura.config.ratelimit.AuthRateLimiter;
+import com.clinica.aura.exceptions.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aplica el límite por IP a las rutas públicas de login y registro antes de leer el cuerpo
+ * de la solicitud, evitando que un cliente automatizado consuma CPU en hashes BCrypt.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(AuthRateLimiter authRateLimiter, ObjectMapper objectMapper) {
+        this.authRateLimiter = authRateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || Arrays.stream(SecurityConfig.PUBLIC_POST_PATHS).noneMatch(request.getServletPath()::equals);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long retryAfter = authRateLimiter.tryConsumeForIp(request);
+        if (retryAfter > 0) {
+            ErrorResponse error = ErrorResponse.builder()
+                    .errorCode("RATE-429")
+                    .message("Demasiadas solicitudes")
+                    .details(List.of("Intente nuevamente en " + retryAfter + " segundos"))
+                    .timestamp(Instant.now())
+                    .path(request.getRequestURI())
+                    .build();
+
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.setContentType("application/json; charset=UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(error));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
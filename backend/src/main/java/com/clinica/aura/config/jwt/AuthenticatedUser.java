@@ -0,0 +1,13 @@
+package com.clinica.aura.config.jwt;
+
+import java.io.Serializable;
+
+/**
+ * Principal tipado de las solicitudes autenticadas con JWT.
+ *
+ * @param email          el email del usuario (subject del token)
+ * @param professionalId el id del profesional asociado, tomado del claim firmado; null si el usuario
+ *                       no es profesional o el token fue emitido antes de incluir el claim
+ */
+public record AuthenticatedUser(String email, Long professionalId) implements Serializable {
+}
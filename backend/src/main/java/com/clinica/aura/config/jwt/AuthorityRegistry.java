@@ -0,0 +1,97 @@
+package com.clinica.aura.config.jwt;
+
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
+import com.clinica.aura.modules.user_account.service.impl.RolePermissionSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro flyweight de conjuntos de autoridades.
+ *
+ * Solo existen unas pocas combinaciones distintas de roles y permisos ({@code EnumRole} x {@code EnumPermission}),
+ * por lo que cada cadena del claim "authorities" se convierte una única vez en una lista inmutable
+ * que se comparte entre todas las solicitudes que la contengan.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorityRegistry {
+
+    private final RolePermissionSnapshot rolePermissionSnapshot;
+
+    @Value("${jwt.authorities.max-interned:256}")
+    private int maxInterned;
+
+    private final Map<String, List<GrantedAuthority>> interned = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene la colección compartida de autoridades para la cadena indicada.
+     *
+     * @param authorities las autoridades separadas por comas, tal como vienen en el token
+     * @return una lista inmutable de autoridades; vacía si la cadena es nula o vacía
+     */
+    public List<GrantedAuthority> resolve(String authorities) {
+        if (authorities == null || authorities.isBlank()) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = interned.get(authorities);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> parsed = List.copyOf(AuthorityUtils.commaSeparatedStringToAuthorityList(authorities));
+        if (interned.size() >= maxInterned) {
+            return parsed;
+        }
+        List<GrantedAuthority> previous = interned.putIfAbsent(authorities, parsed);
+        return previous != null ? previous : parsed;
+    }
+
+    /**
+     * Obtiene la colección compartida de autoridades para un token con perfil compacto,
+     * expandiendo los códigos de rol con la copia vigente de permisos por rol.
+     * Si la versión del token no coincide con la vigente, prevalecen los permisos actuales. La copia se
+     * lee una sola vez, así la clave {@code roles@versión} siempre corresponde a los permisos expandidos.
+     *
+     * @param roleCodes los códigos de rol concatenados (claim "r")
+     * @return una lista inmutable de autoridades
+     */
+    public List<GrantedAuthority> resolveCompact(String roleCodes) {
+        if (roleCodes == null || roleCodes.isEmpty()) {
+            return List.of();
+        }
+        RolePermissionSnapshot.Snapshot snapshot = rolePermissionSnapshot.current();
+        String key = roleCodes + "@" + snapshot.version();
+        List<GrantedAuthority> cached = interned.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<EnumRole> roles = new ArrayList<>();
+        for (int i = 0; i < roleCodes.length(); i++) {
+            roles.add(EnumRole.fromCode(String.valueOf(roleCodes.charAt(i))));
+        }
+        List<GrantedAuthority> expanded = List.copyOf(rolePermissionSnapshot.authoritiesFor(snapshot, roles));
+        if (interned.size() >= maxInterned) {
+            return expanded;
+        }
+        List<GrantedAuthority> previous = interned.putIfAbsent(key, expanded);
+        return previous != null ? previous : expanded;
+    }
+
+    /**
+     * Descarta las entradas compactas ({@code roles@versión}) de versiones anteriores a la recargada,
+     * para que no sigan ocupando lugar dentro de {@code jwt.authorities.max-interned}.
+     */
+    @EventListener
+    public void onRolePermissionsReloaded(RolePermissionSnapshot.Reloaded event) {
+        String currentSuffix = "@" + event.version();
+        interned.keySet().removeIf(key -> key.indexOf('@') >= 0 && !key.endsWith(currentSuffix));
+    }
+}
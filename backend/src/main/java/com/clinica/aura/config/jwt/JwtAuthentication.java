@@ -0,0 +1,72 @@
+package com.clinica.aura.config.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación liviana de {@link Authentication} para solicitudes autenticadas con JWT.
+ *
+ * A diferencia de {@code UsernamePasswordAuthenticationToken}, no copia la colección de autoridades:
+ * reutiliza la lista inmutable compartida que entrega {@link AuthorityRegistry}.
+ */
+public final class JwtAuthentication implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final AuthenticatedUser principal;
+    private final List<GrantedAuthority> authorities;
+    private boolean authenticated = true;
+
+    public JwtAuthentication(AuthenticatedUser principal, List<GrantedAuthority> authorities) {
+        this.principal = principal;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("No se puede marcar como autenticado un token ya construido");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return principal.email();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[username=" + principal.email() + ", authorities=" + authorities + "]";
+    }
+}
@@ -1,11 +1,16 @@
 package com.clinica.aura.config.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
+import com.clinica.aura.modules.user_account.service.impl.RolePermissionSnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -19,7 +24,13 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtils {
+    public static final String PROFESSIONAL_ID_CLAIM = "professional_id";
+    public static final String COMPACT_ROLES_CLAIM = "r";
+    public static final String COMPACT_PERMISSION_VERSION_CLAIM = "pv";
+    public static final String COMPACT_PROFESSIONAL_ID_CLAIM = "pid";
+
     @Value("${jwt.secret.key}")
     private String SECRET_KEY;
 
@@ -29,6 +40,31 @@ public class JwtUtils {
     @Value("${jwt.expiration.time}")
     private long EXPIRATION_TIME;
 
+    /**
+     * Perfil de claims de los tokens emitidos: "full" (authorities y roles completos) o
+     * "compact" (códigos de rol y versión del conjunto de permisos). Ambos se aceptan al validar.
+     */
+    @Value("${jwt.claims.profile:full}")
+    private String claimsProfile;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RolePermissionSnapshot rolePermissionSnapshot;
+
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    /**
+     * Construye una única vez el algoritmo de firma y el verificador, que son inmutables
+     * y seguros para uso concurrente.
+     */
+    @PostConstruct
+    void initVerifier() {
+        this.algorithm = Algorithm.HMAC256(this.SECRET_KEY);
+        this.verifier = JWT.require(this.algorithm)
+                .withIssuer(this.SECRET_USER_KEY)
+                .build();
+    }
+
     /**
      * Genera un token JWT con los detalles del usuario autenticado.
      *
@@ -45,9 +81,19 @@ public class JwtUtils {
      * @throws RuntimeException si ocurre un error durante la generación del token
      */
     public String generateJwtToken(Authentication authentication) {
+        return generateJwtToken(authentication, null);
+    }
 
-
-        Algorithm algorithm = Algorithm.HMAC256(this.SECRET_KEY);
+    /**
+     * Genera un token JWT que además incluye el id del profesional autenticado,
+     * para que los servicios no tengan que resolverlo en la base de datos en cada solicitud.
+     *
+     * @param authentication el objeto de autenticación que contiene los detalles del usuario
+     * @param professionalId el id del profesional asociado al usuario, o null si no es profesional
+     * @return un token JWT con los claims de {@link #generateJwtToken(Authentication)} y, si corresponde,
+     *         el claim professional_id
+     */
+    public String generateJwtToken(Authentication authentication, Long professionalId) {
 
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         String username = userDetails.getUsername();
@@ -62,8 +108,12 @@ public class JwtUtils {
                 .toList();
 
 
+        if ("compact".equalsIgnoreCase(claimsProfile)) {
+            return generateCompactToken(username, authentication, professionalId);
+        }
+
         try {
-            return JWT.create()
+            JWTCreator.Builder builder = JWT.create()
                     .withIssuer(this.SECRET_USER_KEY)
                     .withSubject(username)
                     .withClaim("authorities", authorities)
@@ -71,27 +121,75 @@ public class JwtUtils {
                     .withIssuedAt(new Date())
                     .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                     .withJWTId(UUID.randomUUID().toString())
-                    .withNotBefore(new Date(System.currentTimeMillis()))
-                    .sign(algorithm);
+                    .withNotBefore(new Date(System.currentTimeMillis()));
+            if (professionalId != null) {
+                builder.withClaim(PROFESSIONAL_ID_CLAIM, professionalId);
+            }
+            return builder.sign(algorithm);
+        } catch (Exception e) {
+            throw new RuntimeException("Error generating JWT token", e);
+        }
+    }
+
+    /**
+     * Genera un token con el perfil compacto: en lugar de la lista completa de autoridades lleva
+     * los códigos de rol y la versión del conjunto de permisos, que el servidor expande con
+     * {@link RolePermissionSnapshot}. Omite además el claim roles duplicado y notBefore.
+     */
+    private String generateCompactToken(String username, Authentication authentication, Long professionalId) {
+        List<String> roleCodes = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> EnumRole.valueOf(authority.substring("ROLE_".length())).getCode())
+                .toList();
+
+        long now = System.currentTimeMillis();
+        try {
+            JWTCreator.Builder builder = JWT.create()
+                    .withIssuer(this.SECRET_USER_KEY)
+                    .withSubject(username)
+                    .withClaim(COMPACT_ROLES_CLAIM, String.join("", roleCodes))
+                    .withClaim(COMPACT_PERMISSION_VERSION_CLAIM, rolePermissionSnapshot.getVersion())
+                    .withIssuedAt(new Date(now))
+                    .withExpiresAt(new Date(now + EXPIRATION_TIME))
+                    .withJWTId(UUID.randomUUID().toString());
+            if (professionalId != null) {
+                builder.withClaim(COMPACT_PROFESSIONAL_ID_CLAIM, professionalId);
+            }
+            return builder.sign(algorithm);
         } catch (Exception e) {
             throw new RuntimeException("Error generating JWT token", e);
         }
     }
 
+    /**
+     * Obtiene el id del profesional del token, cualquiera sea su perfil de claims.
+     *
+     * @param token el token JWT decodificado
+     * @return el id del profesional o null si el token no lo incluye
+     */
+    public Long getProfessionalId(DecodedJWT token) {
+        Claim compact = token.getClaim(COMPACT_PROFESSIONAL_ID_CLAIM);
+        return !compact.isMissing() ? compact.asLong() : token.getClaim(PROFESSIONAL_ID_CLAIM).asLong();
+    }
+
     /**
      * Valida y decodifica un token JWT.
+     * Si el token ya fue verificado y no expiró, se devuelve desde la caché de tokens verificados.
      *
      * @param token el token JWT a validar
      * @return un objeto DecodedJWT con los detalles del token validado
      * @throws JWTVerificationException si el token no es valido o no cumple con las condiciones establecidas
      */
     public DecodedJWT validateToken(String token) {
+        DecodedJWT cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Algorithm algorithm = Algorithm.HMAC256(this.SECRET_KEY);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(this.SECRET_USER_KEY)
-                    .build();
-            return verifier.verify(token);
+            DecodedJWT decodedJWT = verifier.verify(token);
+            verifiedTokenCache.put(token, decodedJWT);
+            return decodedJWT;
         } catch (JWTVerificationException e) {
             throw new JWTVerificationException("Token Invalid, not Authorized");
         }
@@ -0,0 +1,124 @@
+package com.clinica.aura.config.jwt;
+
+import com.clinica.aura.modules.user_account.models.UserModel;
+import com.clinica.aura.modules.user_account.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de los usuarios suspendidos, indexado por email (subject del token).
+ *
+ * Permite que {@code JwtTokenValidator} rechace en tiempo constante los tokens de un usuario suspendido
+ * sin consultar la base de datos. Cada entrada vence sola al llegar a su {@code suspensionEnd}.
+ * El índice se carga al iniciar y se recarga periódicamente desde la base de datos, de modo que
+ * las suspensiones aplicadas en otra instancia también se respetan.
+ *
+ * Los cambios locales ({@link #suspend}, {@link #activate}) que llegan mientras una recarga consulta
+ * la base de datos se registran y se vuelven a aplicar sobre el índice recargado antes de reemplazarlo,
+ * para que la recarga no los pierda aunque la consulta no los haya visto.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuspendedUserIndex {
+
+    private final UserRepository userRepository;
+
+    private final Object lock = new Object();
+
+    private volatile Map<String, Instant> suspendedUntil = new ConcurrentHashMap<>();
+
+    /** Cambios locales durante la recarga en curso (valor null = activación), o null si no hay recarga. */
+    private Map<String, Instant> changesDuringRefresh;
+
+    /**
+     * Recarga el índice completo desde la base de datos y lo reemplaza de forma atómica, conservando
+     * los cambios locales hechos mientras se ejecutaba la consulta.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${security.suspension.refresh-interval-ms:30000}",
+            initialDelayString = "${security.suspension.refresh-interval-ms:30000}")
+    public void refresh() {
+        synchronized (lock) {
+            changesDuringRefresh = new HashMap<>();
+        }
+        Map<String, Instant> reloaded = new ConcurrentHashMap<>();
+        try {
+            for (UserModel user : userRepository.findAllBySuspensionEndAfter(LocalDateTime.now())) {
+                reloaded.put(user.getEmail(), toInstant(user.getSuspensionEnd()));
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                changesDuringRefresh = null;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            changesDuringRefresh.forEach((email, end) -> {
+                if (end == null) {
+                    reloaded.remove(email);
+                } else {
+                    reloaded.put(email, end);
+                }
+            });
+            changesDuringRefresh = null;
+            suspendedUntil = reloaded;
+        }
+        log.debug("Índice de usuarios suspendidos recargado - usuarios: {}", reloaded.size());
+    }
+
+    /**
+     * Indica si el usuario está suspendido en este momento.
+     *
+     * @param email el email del usuario
+     * @return true si existe una suspensión vigente
+     */
+    public boolean isSuspended(String email) {
+        Map<String, Instant> current = suspendedUntil;
+        if (current.isEmpty() || email == null) {
+            return false;
+        }
+        Instant end = current.get(email);
+        if (end == null) {
+            return false;
+        }
+        if (!end.isAfter(Instant.now())) {
+            current.remove(email, end);
+            return false;
+        }
+        return true;
+    }
+
+    public void suspend(String email, LocalDateTime suspensionEnd) {
+        Instant end = toInstant(suspensionEnd);
+        synchronized (lock) {
+            suspendedUntil.put(email, end);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.put(email, end);
+            }
+        }
+    }
+
+    public void activate(String email) {
+        synchronized (lock) {
+            suspendedUntil.remove(email);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.put(email, null);
+            }
+        }
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
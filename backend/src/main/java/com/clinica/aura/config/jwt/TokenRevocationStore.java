@@ -0,0 +1,179 @@
+package com.clinica.aura.config.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.clinica.aura.modules.user_account.models.RevokedTokenModel;
+import com.clinica.aura.modules.user_account.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de tokens JWT revocados.
+ *
+ * Mantiene en memoria los {@code jti} revocados, con su expiración, precedidos por un filtro de Bloom:
+ * en el caso habitual (token no revocado) la consulta se resuelve sin tocar el mapa. También admite
+ * revocar todos los tokens de un usuario emitidos hasta un instante dado, usado al suspenderlo.
+ * Cada revocación se persiste en la tabla revoked_tokens, se carga completa al iniciar la aplicación
+ * y luego se incorporan periódicamente las nuevas, de modo que un logout o una suspensión atendidos
+ * en otra instancia también se respetan aquí.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    /**
+     * Margen con el que se solapa cada recarga con la anterior: revoked_at lo fija el reloj de la
+     * instancia que revocó, y su transacción puede confirmarse después de nuestra última lectura.
+     */
+    private static final Duration RELOAD_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.expiration.time}")
+    private long expirationTime;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    private final Map<String, Instant> revokedJtis = new ConcurrentHashMap<>();
+    private final Map<String, Cutoff> subjectCutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant lastLoad;
+
+    /**
+     * Carga las revocaciones vigentes desde la base de datos.
+     */
+    @PostConstruct
+    void load() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findAllByExpiresAtAfter(now).forEach(this::register);
+        rebuildBloomFilter();
+        lastLoad = now;
+        log.info("Revocaciones de tokens cargadas - jti: {} | usuarios: {}", revokedJtis.size(), subjectCutoffs.size());
+    }
+
+    /**
+     * Incorpora las revocaciones registradas desde la última carga, incluidas las de otras instancias.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        Instant since = lastLoad.minus(RELOAD_OVERLAP);
+        int loaded = 0;
+        for (RevokedTokenModel revoked : revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(since, now)) {
+            register(revoked);
+            loaded++;
+        }
+        lastLoad = now;
+        log.debug("Revocaciones de tokens recargadas desde {} - registros: {}", since, loaded);
+    }
+
+    /**
+     * Revoca un token concreto a partir de su {@code jti}.
+     *
+     * @param token el token decodificado a revocar
+     */
+    public void revoke(DecodedJWT token) {
+        String jti = token.getId();
+        if (jti == null || revokedJtis.containsKey(jti)) {
+            return;
+        }
+        Instant expiresAt = token.getExpiresAtAsInstant() != null
+                ? token.getExpiresAtAsInstant()
+                : Instant.now().plusMillis(expirationTime);
+
+        RevokedTokenModel revoked = RevokedTokenModel.builder()
+                .jti(jti)
+                .subject(token.getSubject())
+                .revokedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+        if (!revokedTokenRepository.existsByJti(jti)) {
+            revokedTokenRepository.save(revoked);
+        }
+        register(revoked);
+    }
+
+    /**
+     * Revoca todos los tokens del usuario emitidos hasta este momento.
+     *
+     * @param subject el subject (email) del usuario
+     */
+    public void revokeAllForSubject(String subject) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        RevokedTokenModel revoked = RevokedTokenModel.builder()
+                .subject(subject)
+                .revokedAt(now)
+                .expiresAt(now.plusMillis(expirationTime))
+                .build();
+        revokedTokenRepository.save(revoked);
+        register(revoked);
+    }
+
+    /**
+     * Indica si el token fue revocado, ya sea por su {@code jti} o por una revocación de su usuario.
+     *
+     * @param token el token decodificado
+     * @return true si el token no debe aceptarse
+     */
+    public boolean isRevoked(DecodedJWT token) {
+        String jti = token.getId();
+        if (jti != null && bloomFilter.mightContain(jti) && revokedJtis.containsKey(jti)) {
+            return true;
+        }
+        if (subjectCutoffs.isEmpty()) {
+            return false;
+        }
+        Cutoff cutoff = subjectCutoffs.get(token.getSubject());
+        Instant issuedAt = token.getIssuedAtAsInstant();
+        return cutoff != null && (issuedAt == null || !issuedAt.isAfter(cutoff.revokedAt()));
+    }
+
+    /**
+     * Elimina las revocaciones cuyos tokens ya expiraron y reconstruye el filtro de Bloom.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedJtis.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        subjectCutoffs.values().removeIf(cutoff -> cutoff.expiresAt().isBefore(now));
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        rebuildBloomFilter();
+        log.debug("Revocaciones purgadas: {} | jti vigentes: {}", deleted, revokedJtis.size());
+    }
+
+    private void register(RevokedTokenModel revoked) {
+        if (revoked.getJti() != null) {
+            revokedJtis.put(revoked.getJti(), revoked.getExpiresAt());
+            BloomFilter current = bloomFilter;
+            if (current != null) {
+                current.put(revoked.getJti());
+            }
+        } else {
+            subjectCutoffs.merge(revoked.getSubject(), new Cutoff(revoked.getRevokedAt(), revoked.getExpiresAt()),
+                    (previous, next) -> next.revokedAt().isAfter(previous.revokedAt()) ? next : previous);
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedJtis.size() * 2), 0.01);
+        revokedJtis.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // Cubre los jti registrados mientras se construía el nuevo filtro
+        revokedJtis.keySet().forEach(rebuilt::put);
+    }
+
+    private record Cutoff(Instant revokedAt, Instant expiresAt) {
+    }
+}
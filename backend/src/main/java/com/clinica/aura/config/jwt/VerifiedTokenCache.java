@@ -0,0 +1,140 @@
+package com.clinica.aura.config.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché acotada de tokens JWT ya verificados.
+ *
+ * Evita repetir la verificación HMAC y la decodificación del token en cada solicitud
+ * de un mismo usuario. Las entradas se indexan por el digest SHA-256 del token (nunca
+ * por el token en claro) y se descartan al alcanzar el {@code exp} del propio token.
+ *
+ * Métricas publicadas:
+ * - aura.jwt.cache.hits: tokens resueltos desde la caché
+ * - aura.jwt.cache.misses: tokens que tuvieron que verificarse
+ * - aura.jwt.cache.size: entradas almacenadas
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, DecodedJWT> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("aura.jwt.cache.hits", this, VerifiedTokenCache::getHits)
+                .description("Tokens resueltos desde la caché de tokens verificados")
+                .register(meterRegistry);
+        FunctionCounter.builder("aura.jwt.cache.misses", this, VerifiedTokenCache::getMisses)
+                .description("Tokens que no estaban en la caché y tuvieron que verificarse")
+                .register(meterRegistry);
+        Gauge.builder("aura.jwt.cache.size", this, VerifiedTokenCache::size)
+                .description("Entradas en la caché de tokens verificados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtiene un token previamente verificado, siempre que no haya expirado.
+     *
+     * @param token el token JWT en claro
+     * @return el token decodificado o null si no está en caché o ya expiró
+     */
+    public DecodedJWT get(String token) {
+        String key = digest(token);
+        DecodedJWT cached = entries.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (isExpired(cached, System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * Guarda un token verificado. Si la caché está llena se purgan primero las entradas
+     * expiradas; si aun así no hay espacio, el token no se almacena.
+     *
+     * @param token   el token JWT en claro
+     * @param decoded el token ya verificado y decodificado
+     */
+    public void put(String token, DecodedJWT decoded) {
+        if (decoded.getExpiresAt() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired();
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), decoded);
+    }
+
+    /**
+     * Elimina un token de la caché.
+     *
+     * @param token el token JWT en claro
+     */
+    public void invalidate(String token) {
+        entries.remove(digest(token));
+    }
+
+    /**
+     * Purga periódicamente las entradas cuyo {@code exp} ya pasó.
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(decoded -> isExpired(decoded, now));
+        log.debug("Caché de tokens - tamaño: {} | aciertos: {} | fallos: {}", entries.size(), hits.get(), misses.get());
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(DecodedJWT decoded, long now) {
+        return decoded.getExpiresAt().getTime() <= now;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
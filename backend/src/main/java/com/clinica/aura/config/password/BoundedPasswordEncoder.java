@@ -0,0 +1,135 @@
+package com.clinica.aura.config.password;
+
+import com.clinica.aura.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Codificador BCrypt que ejecuta el hashing en un pool de hilos dedicado y acotado.
+ *
+ * Evita que una ráfaga de logins ocupe todos los hilos de Tomcat: como máximo {@code threads}
+ * hashes se calculan en paralelo y a lo sumo {@code queueCapacity} esperan turno. Si la cola está
+ * llena, o la espera supera {@code maxWaitMillis}, se lanza {@link ServiceOverloadedException} (503).
+ *
+ * Métricas publicadas:
+ * - aura.password.hash.latency: duración del cálculo BCrypt
+ * - aura.password.hash.queue.wait: tiempo de espera en la cola
+ * - aura.password.hash.queue.size: tareas encoladas
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long maxWaitMillis;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long maxWaitMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.maxWaitMillis = maxWaitMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("aura.password.hash.latency")
+                .description("Duración del cálculo BCrypt")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("aura.password.hash.queue.wait")
+                .description("Tiempo de espera en la cola de hashing")
+                .register(meterRegistry);
+        Gauge.builder("aura.password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Tareas de hashing encoladas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Indica si el hash fue generado con un costo distinto al configurado,
+     * en cuyo caso debe recalcularse tras un login exitoso.
+     *
+     * @param encodedPassword el hash almacenado
+     * @return true si el costo del hash difiere del configurado
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Detiene el pool de hashing al cerrar el contexto de Spring.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Cola de hashing llena - activas: {} | encoladas: {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceOverloadedException("El servicio de autenticación está saturado, intente nuevamente", 1);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceOverloadedException("Tiempo de espera agotado en el servicio de autenticación", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de contraseña interrumpido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error al calcular el hash de la contraseña", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.clinica.aura.config.ratelimit;
+
+import com.clinica.aura.exceptions.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Limita la frecuencia de las operaciones públicas que calculan un hash BCrypt
+ * (login y registros), tanto por dirección IP del cliente como por email.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+
+    public AuthRateLimiter(@Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${security.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                           @Value("${security.rate-limit.email.capacity:5}") int emailCapacity,
+                           @Value("${security.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                           @Value("${security.rate-limit.idle-timeout-ms:600000}") long idleTimeoutMillis,
+                           @Value("${security.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, idleTimeoutMillis, maxBuckets);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, idleTimeoutMillis, maxBuckets);
+    }
+
+    /**
+     * Consume un token del bucket de la IP del cliente.
+     *
+     * @param request la solicitud HTTP
+     * @return 0 si la solicitud está permitida; si no, los segundos a esperar
+     */
+    public long tryConsumeForIp(HttpServletRequest request) {
+        return ipLimiter.tryConsume(resolveClientIp(request));
+    }
+
+    /**
+     * Consume un token del bucket del email indicado.
+     *
+     * @param email el email usado en el login o registro
+     * @throws RateLimitExceededException si se superó el límite para ese email
+     */
+    public void checkEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        long retryAfter = emailLimiter.tryConsume(email.trim().toLowerCase(Locale.ROOT));
+        if (retryAfter > 0) {
+            throw new RateLimitExceededException("Demasiados intentos para este email, intente más tarde", retryAfter);
+        }
+    }
+
+    /**
+     * Obtiene la IP del cliente. No se lee X-Forwarded-For directamente, porque su primer valor lo
+     * controla el cliente: detrás de un proxy, Tomcat (server.forward-headers-strategy=native)
+     * reemplaza la dirección remota por el último salto agregado por un proxy de confianza
+     * (server.tomcat.remoteip.internal-proxies).
+     *
+     * @param request la solicitud HTTP
+     * @return la IP del cliente
+     */
+    public static String resolveClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Elimina periódicamente los buckets inactivos para mantener acotada la memoria.
+     */
+    @Scheduled(fixedDelayString = "${security.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        ipLimiter.evictIdle();
+        emailLimiter.evictIdle();
+    }
+}
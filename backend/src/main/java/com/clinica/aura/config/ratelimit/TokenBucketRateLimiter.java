@@ -0,0 +1,120 @@
+package com.clinica.aura.config.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador de tasa en memoria basado en token buckets, uno por clave.
+ *
+ * Las actualizaciones de cada bucket se serializan con un conjunto fijo de locks (lock striping),
+ * de modo que claves distintas rara vez compiten entre sí. La memoria se mantiene acotada:
+ * los buckets inactivos se eliminan con {@link #evictIdle()} y, si se alcanza {@code maxBuckets},
+ * las claves nuevas se rechazan hasta que se liberen buckets. Las claves que ya tienen bucket no
+ * se ven afectadas, por lo que llenar el mapa no bloquea a los clientes existentes.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final long idleNanos;
+    private final int maxBuckets;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    /**
+     * @param capacity          cantidad máxima de solicitudes en ráfaga
+     * @param refillPerMinute   tokens repuestos por minuto
+     * @param idleTimeoutMillis tiempo sin uso tras el cual un bucket puede eliminarse
+     * @param maxBuckets        cantidad máxima de buckets en memoria
+     */
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, long idleTimeoutMillis, int maxBuckets) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.maxBuckets = maxBuckets;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Intenta consumir un token para la clave indicada.
+     *
+     * @param key la clave a limitar (email, IP, etc.)
+     * @return 0 si la solicitud está permitida; en caso contrario, los segundos a esperar antes de reintentar
+     */
+    public long tryConsume(String key) {
+        long now = System.nanoTime();
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                // El tamaño se lee sin un lock global: con creaciones concurrentes el límite
+                // puede superarse como mucho en STRIPES buckets.
+                if (buckets.size() >= maxBuckets) {
+                    return secondsUntil(1);
+                }
+                bucket = new Bucket(capacity, now);
+                buckets.put(key, bucket);
+            }
+            bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.lastRefill) * refillPerNano);
+            bucket.lastRefill = now;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return secondsUntil(1 - bucket.tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina los buckets que no se usaron durante el tiempo de inactividad configurado.
+     * Un bucket inactivo ya está lleno, por lo que eliminarlo no altera el comportamiento.
+     * Cada eliminación se hace con el lock de la clave, el mismo que usa {@link #tryConsume},
+     * para no descartar un bucket que se está actualizando.
+     */
+    public void evictIdle() {
+        for (String key : buckets.keySet()) {
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                Bucket bucket = buckets.get(key);
+                if (bucket != null && System.nanoTime() - bucket.lastRefill > idleNanos) {
+                    buckets.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private long secondsUntil(double missingTokens) {
+        double missingNanos = missingTokens / refillPerNano;
+        return Math.max(1, (long) Math.ceil(missingNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+    }
+}
@@ -920,6 +920,149 @@ public class GlobalExceptionController {
                 .body(errorResponse);
     }
 
+    /**
+     * Maneja excepciones de tipo {@link InvalidCursorException}, lanzadas cuando el cursor de una
+     * paginación por cursor no es válido.
+     * @param ex      la excepción lanzada
+     * @param request la solicitud web actual
+     * @return una respuesta con código 400 (Bad Request) y detalles del error en el cuerpo
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("CURSOR-400")
+                .message("Cursor de paginación inválido")
+                .details(List.of(sanitizeErrorMessage(ex.getMessage())))
+                .timestamp(Instant.now())
+                .path(getSanitizedPath(request))
+                .build();
+
+        log.warn("Cursor inválido - Path: {} | IP: {} | Mensaje: {}",
+                errorResponse.getPath(),
+                request.getHeader("X-Forwarded-For"),
+                ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .header("X-Content-Type-Options", "nosniff")
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidImportFileException}, lanzadas cuando el archivo de una importación masiva no puede procesarse.
+     * @param ex      la excepción lanzada
+     * @param request la solicitud web actual
+     * @return una respuesta con código 400 (Bad Request) y detalles del error en el cuerpo
+     */
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportFileException(InvalidImportFileException ex, WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("IMPORT-400")
+                .message("Archivo de importación inválido")
+                .details(List.of(sanitizeErrorMessage(ex.getMessage())))
+                .timestamp(Instant.now())
+                .path(getSanitizedPath(request))
+                .build();
+
+        log.warn("Archivo de importación inválido - Path: {} | IP: {} | Mensaje: {}",
+                errorResponse.getPath(),
+                request.getHeader("X-Forwarded-For"),
+                ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .header("X-Content-Type-Options", "nosniff")
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link ImportJobNotFoundException}, lanzadas cuando se consulta una importación inexistente.
+     * @param ex      la excepción lanzada
+     * @param request la solicitud web actual
+     * @return una respuesta con código 404 (Not Found) y detalles del error en el cuerpo
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFoundException(ImportJobNotFoundException ex, WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("IMPORT-404")
+                .message("Importación no encontrada")
+                .details(List.of(sanitizeErrorMessage(ex.getMessage())))
+                .timestamp(Instant.now())
+                .path(getSanitizedPath(request))
+                .build();
+
+        log.warn("Importación no encontrada - Path: {} | IP: {} | Mensaje: {}",
+                errorResponse.getPath(),
+                request.getHeader("X-Forwarded-For"),
+                ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .header("X-Content-Type-Options", "nosniff")
+                .body(errorResponse);
+    }
+
+    /**
+     * Manejador de excepciones para solicitudes que superan el límite de tasa.
+     * Captura instancias de {@link RateLimitExceededException} cuando un mismo email realiza demasiados
+     * intentos de login o registro en poco tiempo.
+     *
+     * @param ex      la excepción lanzada cuando se supera el límite de tasa
+     * @param request el objeto {@link WebRequest} asociado a la solicitud HTTP que provocó la excepción
+     * @return una respuesta con código 429 (Too Many Requests) y el encabezado Retry-After
+     */
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("RATE-429")
+                .message("Demasiadas solicitudes")
+                .details(List.of(sanitizeErrorMessage(ex.getMessage())))
+                .timestamp(Instant.now())
+                .path(getSanitizedPath(request))
+                .build();
+
+        log.warn("Límite de tasa superado - Path: {} | IP: {} | Mensaje: {}",
+                errorResponse.getPath(),
+                request.getHeader("X-Forwarded-For"),
+                ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("X-Content-Type-Options", "nosniff")
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Manejador de excepciones para solicitudes rechazadas por saturación del servidor.
+     * Captura instancias de {@link ServiceOverloadedException} cuando un recurso acotado (por ejemplo,
+     * el pool de hashing de contraseñas) no puede aceptar más trabajo.
+     *
+     * @param ex      la excepción lanzada cuando el servicio está saturado
+     * @param request el objeto {@link WebRequest} asociado a la solicitud HTTP que provocó la excepción
+     * @return una respuesta con código 503 (Service Unavailable) y el encabezado Retry-After
+     */
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("SERVER-503")
+                .message("El servicio está temporalmente saturado")
+                .details(List.of(sanitizeErrorMessage(ex.getMessage())))
+                .timestamp(Instant.now())
+                .path(getSanitizedPath(request))
+                .build();
+
+        log.warn("Servicio saturado - Path: {} | IP: {} | Mensaje: {}",
+                errorResponse.getPath(),
+                request.getHeader("X-Forwarded-For"),
+                ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("X-Content-Type-Options", "nosniff")
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Manejador de excepciones para solicitudes con recursos no encontrados.
      * Captura instancias de {@link Exception} cuando se produce cualquier otra excepción no prevista.
@@ -0,0 +1,10 @@
+package com.clinica.aura.exceptions;
+/**
+ * Excepción lanzada cuando se consulta una importación masiva de pacientes que no existe
+ * o cuyo estado ya fue descartado.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
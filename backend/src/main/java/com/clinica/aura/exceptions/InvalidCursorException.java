@@ -0,0 +1,11 @@
+package com.clinica.aura.exceptions;
+/**
+ * Excepción lanzada cuando el cursor recibido en una paginación por cursor no es válido
+ * (no fue emitido por el servidor o está corrupto).
+ * Es manejada por el controlador global para retornar una respuesta con código HTTP 400 (Bad Request).
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.clinica.aura.exceptions;
+/**
+ * Excepción lanzada cuando el archivo de una importación masiva de pacientes está vacío,
+ * no puede leerse o tiene un formato no soportado.
+ */
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.clinica.aura.modules.change_feed.controller;
+
+import com.clinica.aura.config.jwt.AuthenticatedUser;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controlador REST del feed de cambios (Server-Sent Events), que reemplaza el sondeo periódico
+ * de los listados de pacientes y seguimientos.
+ */
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "Notificaciones de cambios en pacientes y registros clínicos")
+@PreAuthorize("hasRole('ADMIN') or hasRole('RECEPTIONIST') or hasRole('PROFESSIONAL')")
+public class ChangeFeedController {
+
+    private final ChangeFeedBroadcaster changeFeedBroadcaster;
+
+    /**
+     * Abre una conexión SSE con los cambios confirmados.
+     * @param professionalId filtro opcional por profesional asignado al paciente
+     * @param authentication usuario autenticado
+     * @return emisor SSE
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de cambios en tiempo real", description = """
+            Abre una conexión Server-Sent Events que recibe un evento 'change' cada vez que se crea,
+            modifica o elimina un paciente, historia clínica, seguimiento o diagnóstico. El evento solo
+            trae tipo de entidad, acción, id, versión e id de paciente; el cliente vuelve a pedir el
+            recurso si lo necesita. 'professionalId' limita los eventos a los pacientes asignados a ese
+            profesional; para usuarios profesionales se aplica siempre su propio id. Si el cliente no
+            consume los eventos a tiempo la conexión se cierra y debe reconectarse.
+            """)
+    public SseEmitter stream(@RequestParam(required = false) Long professionalId, Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal
+                && principal.professionalId() != null) {
+            professionalId = principal.professionalId();
+        }
+        return changeFeedBroadcaster.subscribe(professionalId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.clinica.aura.modules.change_feed.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Evento liviano del feed de cambios: indica qué entidad cambió, no su contenido. El cliente decide
+ * si vuelve a pedir el recurso (con If-None-Match y la versión que ya tiene).
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeEventDto {
+
+    public enum EntityType { PATIENT, MEDICAL_RECORD, FOLLOW_UP, DIAGNOSIS }
+
+    public enum Action { CREATED, UPDATED, DELETED }
+
+    @Schema(description = "Tipo de entidad modificada", example = "FOLLOW_UP")
+    private EntityType entityType;
+
+    @Schema(description = "Acción realizada", example = "CREATED")
+    private Action action;
+
+    @Schema(description = "ID de la entidad", example = "42")
+    private Long id;
+
+    @Schema(description = "Versión de la entidad tras el cambio; null si fue eliminada", example = "0")
+    private Long version;
+
+    @Schema(description = "ID del paciente al que pertenece la entidad", example = "7")
+    private Long patientId;
+
+    @Schema(description = "Momento en que se publicó el cambio")
+    private Instant occurredAt;
+}
@@ -0,0 +1,235 @@
+package com.clinica.aura.modules.change_feed.service;
+
+import com.clinica.aura.exceptions.ServiceOverloadedException;
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.patient.model.PatientSummaryModel;
+import com.clinica.aura.modules.patient.repository.PatientSummaryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reparte los eventos del feed de cambios a los suscriptores SSE.
+ *
+ * Publicar nunca bloquea la transacción que generó el cambio: el evento se encola en el buffer
+ * acotado de cada suscriptor ({@code change-feed.buffer-size}) y un pool propio lo envía por la
+ * conexión. Un suscriptor cuyo buffer se llena (cliente lento o conexión caída) se desconecta;
+ * el EventSource del navegador se reconecta solo. Un latido periódico detecta conexiones muertas.
+ *
+ * La búsqueda de los profesionales del paciente (para los suscriptores filtrados) se hace en un hilo
+ * propio de ruteo, no en el hilo que confirmó la escritura. Es un único hilo para que los eventos se
+ * repartan en el orden en que se confirmaron; si su cola ({@code change-feed.router-queue-capacity})
+ * se llena, se desconectan los suscriptores, que al reconectarse vuelven a pedir el estado.
+ */
+@Slf4j
+@Component
+public class ChangeFeedBroadcaster {
+
+    private final PatientSummaryRepository patientSummaryRepository;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor router;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    public ChangeFeedBroadcaster(PatientSummaryRepository patientSummaryRepository,
+                                 @Value("${change-feed.buffer-size:256}") int bufferSize,
+                                 @Value("${change-feed.max-subscribers:500}") int maxSubscribers,
+                                 @Value("${change-feed.timeout-ms:1800000}") long timeoutMs,
+                                 @Value("${change-feed.threads:4}") int threads,
+                                 @Value("${change-feed.router-queue-capacity:10000}") int routerQueueCapacity) {
+        this.patientSummaryRepository = patientSummaryRepository;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.router = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(routerQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-router");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Registra un suscriptor.
+     *
+     * @param professionalId si no es null, solo recibe cambios de pacientes asignados a ese profesional
+     * @return el emisor SSE de la conexión
+     * @throws ServiceOverloadedException si se alcanzó {@code change-feed.max-subscribers}
+     */
+    public SseEmitter subscribe(Long professionalId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException("Hay demasiadas suscripciones al feed de cambios, intente nuevamente más tarde", 30);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, professionalId, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        enqueue(subscriber, SseEmitter.event().comment("conectado").build());
+        return emitter;
+    }
+
+    /**
+     * Reparte un cambio una vez confirmada la transacción que lo produjo. Si no hay transacción
+     * activa, se reparte en el momento. El ruteo a los suscriptores corre en el hilo de ruteo.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEventDto change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            router.execute(() -> {
+                try {
+                    route(change);
+                } catch (RuntimeException e) {
+                    log.warn("No se pudo repartir el cambio {} {}: {}", change.getEntityType(), change.getId(), e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscribers.forEach(subscriber -> drop(subscriber, "cola de ruteo llena"));
+        }
+    }
+
+    private void route(ChangeEventDto change) {
+        Set<Long> professionalIds = needsProfessionalIds() ? professionalIdsOf(change.getPatientId()) : Set.of();
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name("change")
+                .data(change)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.professionalId() == null || professionalIds.contains(subscriber.professionalId())) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${change-feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, ping);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        router.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private boolean needsProfessionalIds() {
+        return subscribers.stream().anyMatch(subscriber -> subscriber.professionalId() != null);
+    }
+
+    private Set<Long> professionalIdsOf(Long patientId) {
+        if (patientId == null) {
+            return Set.of();
+        }
+        return patientSummaryRepository.findById(patientId)
+                .map(PatientSummaryModel::getProfessionalIds)
+                .map(Set::copyOf)
+                .orElse(Set.of());
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (!subscriber.buffer().offer(event)) {
+            drop(subscriber, "buffer lleno");
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                drop(subscriber, "pool detenido");
+            }
+        }
+    }
+
+    /**
+     * Envía lo acumulado en el buffer del suscriptor. Solo un hilo a la vez drena cada suscriptor.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.buffer().poll()) != null) {
+                try {
+                    subscriber.emitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, "conexión cerrada");
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+        } while (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Suscriptor del feed de cambios desconectado: {}", reason);
+            subscriber.buffer().clear();
+            subscriber.emitter().complete();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long professionalId;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long professionalId, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer) {
+            this.emitter = emitter;
+            this.professionalId = professionalId;
+            this.buffer = buffer;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Long professionalId() {
+            return professionalId;
+        }
+
+        BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer() {
+            return buffer;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.clinica.aura.modules.change_feed.service;
+
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Punto único desde el que los servicios informan cambios al feed. El evento se publica como
+ * evento de aplicación y {@link ChangeFeedBroadcaster} lo reparte recién cuando la transacción
+ * confirma, de modo que nunca se anuncian cambios que terminan en rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeFeedPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(ChangeEventDto.EntityType entityType, ChangeEventDto.Action action,
+                        Long id, Long version, Long patientId) {
+        applicationEventPublisher.publishEvent(
+                new ChangeEventDto(entityType, action, id, version, patientId, Instant.now()));
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import com.clinica.aura.util.CursorPage;
 
 @RestController
 @RequiredArgsConstructor
@@ -39,7 +41,6 @@ public class DiagnosesController {
     }
 
 
-
     /**
      * Endpoint para actualizar un diagnóstico existente.
      * <p>
@@ -77,6 +78,28 @@ public class DiagnosesController {
         return ResponseEntity.status(HttpStatus.OK).body(diagnosesService.getAllDiagnoses(page, size));
     }
 
+    /**
+     * Lista los diagnósticos con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Obtener diagnósticos con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            """)
+    public ResponseEntity<CursorPage<DiagnosesResponseDto>> getDiagnosesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        return ResponseEntity.ok(diagnosesService.getDiagnosesByCursor(cursor, size, total));
+    }
+
+
     /**
      * Endpoint para obtener un diagnóstico específico por su ID.
      * <p>
@@ -86,11 +109,15 @@ public class DiagnosesController {
      * @param id el identificador único del diagnóstico que se desea obtener
      * @return una respuesta con código 200 (OK) y el DTO con la información del diagnóstico solicitado
      */
-    @Operation(summary = "Obtener diagnostico por id", description = "Obtiene un diagnostico por id")
+    @Operation(summary = "Obtener diagnostico por id", description = "Obtiene un diagnostico por id. Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo.")
     @GetMapping("/{id}")
-    public ResponseEntity<DiagnosesResponseDto> getDiagnosesById(@PathVariable Long id) {
+    public ResponseEntity<DiagnosesResponseDto> getDiagnosesById(@PathVariable Long id, WebRequest request) {
+        String eTag = diagnosesService.getDiagnosesETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         DiagnosesResponseDto diagnosesResponseDto = diagnosesService.getDiagnosesById(id);
-        return ResponseEntity.status(HttpStatus.OK).body(diagnosesResponseDto);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(diagnosesResponseDto);
     }
 
 }
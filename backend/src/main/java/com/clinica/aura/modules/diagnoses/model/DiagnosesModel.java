@@ -18,7 +18,8 @@ import java.time.LocalDate;
 public class DiagnosesModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diagnoses_seq")
+    @SequenceGenerator(name = "diagnoses_seq", sequenceName = "diagnoses_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -42,4 +43,7 @@ public class DiagnosesModel {
 
     @UpdateTimestamp
     private LocalDate updatedAt;
+
+    @Version
+    private Long version;
 }
@@ -1,9 +1,28 @@
 package com.clinica.aura.modules.diagnoses.repository;
 
 import com.clinica.aura.modules.diagnoses.model.DiagnosesModel;
+import com.clinica.aura.util.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DiagnosesRepository extends JpaRepository<DiagnosesModel, Long> {
+
+    /**
+     * Página por cursor: los diagnósticos con id mayor a {@code afterId}, en orden de id.
+     */
+    List<DiagnosesModel> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Diagnósticos de la historia clínica de un paciente, del más reciente al más antiguo.
+     */
+    List<DiagnosesModel> findByMedicalRecordPatientsIdOrderByCreatedAtDescIdDesc(Long patientId);
+
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(d.id, d.version) FROM DiagnosesModel d WHERE d.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
 }
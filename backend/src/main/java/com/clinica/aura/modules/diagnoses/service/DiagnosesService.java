@@ -1,6 +1,8 @@
 package com.clinica.aura.modules.diagnoses.service;
 
 import com.clinica.aura.exceptions.DianosesNotFoundException;
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedPublisher;
 import com.clinica.aura.modules.diagnoses.dtoRequest.DiagnosesRequestDto;
 import com.clinica.aura.modules.diagnoses.dtoRequest.DiagnosesRequestUpdateDto;
 import com.clinica.aura.modules.diagnoses.dtoResponse.DiagnosesResponseDto;
@@ -11,9 +13,12 @@ import com.clinica.aura.exceptions.MedicalRecordsNotFoundException;
 import com.clinica.aura.modules.medical_records.model.MedicalRecordsModel;
 import com.clinica.aura.modules.medical_records.repository.MedicalRecordsRepository;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
+import com.clinica.aura.util.CursorPage;
 import com.clinica.aura.util.PaginatedResponse;
 import com.clinica.aura.util.SecurityUtil;
+import com.clinica.aura.util.TableRowEstimator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -26,12 +31,15 @@ import java.util.List;
 public class DiagnosesService {
 
     private final DiagnosesRepository diagnosesRepository;
+    private final TableRowEstimator tableRowEstimator;
     private final MedicalRecordsRepository medicalRecordsRepository;
     private final DiagnosesMapper diagnosesMapper;
     private final SecurityUtil securityUtil;
+    private final ChangeFeedPublisher changeFeedPublisher;
 
     @Transactional
     public DiagnosesResponseDto createDiagnoses(DiagnosesRequestDto diagnosesRequestDto) {
+        medicalRecordsRepository.incrementVersion(diagnosesRequestDto.getMedicalRecordId());
         MedicalRecordsModel medicalRecordsModel = medicalRecordsRepository.findById(diagnosesRequestDto.getMedicalRecordId())
                 .orElseThrow(() -> new MedicalRecordsNotFoundException("No se encontró la historia clínica con id: " + diagnosesRequestDto.getMedicalRecordId()));
 
@@ -42,7 +50,9 @@ public class DiagnosesService {
         diagnosesModel.setCreatedBy(professional);
         diagnosesModel.setUpdatedBy(professional);
 
-        return diagnosesMapper.toDiagnosesResponseDto(diagnosesRepository.save(diagnosesModel));
+        DiagnosesModel saved = diagnosesRepository.save(diagnosesModel);
+        publishChange(saved, ChangeEventDto.Action.CREATED);
+        return diagnosesMapper.toDiagnosesResponseDto(saved);
     }
 
 
@@ -52,21 +62,73 @@ public class DiagnosesService {
                 .orElseThrow(() -> new DianosesNotFoundException("No se encontro el diagnostico con id: " + id));
         diagnosesMapper.updateEntityFromDto(diagnosesRequestUpdateDto, diagnosesModel);
         diagnosesModel.setUpdatedBy(securityUtil.getAuthenticatedProfessional());
-        return diagnosesMapper.toDiagnosesResponseDto(diagnosesRepository.save(diagnosesModel));
+        DiagnosesModel saved = diagnosesRepository.saveAndFlush(diagnosesModel);
+        publishChange(saved, ChangeEventDto.Action.UPDATED);
+        return diagnosesMapper.toDiagnosesResponseDto(saved);
     }
 
     public PaginatedResponse<DiagnosesResponseDto> getAllDiagnoses(int page, int size) {
-        Page<DiagnosesModel> diagnoses = diagnosesRepository.findAll(PageRequest.of(page, size));
+        Page<DiagnosesModel> diagnoses = diagnosesRepository.findAll(PageRequest.of(page, CursorPage.clampSize(size)));
         List<DiagnosesResponseDto> content = diagnoses.getContent().stream()
                 .map(diagnosesMapper::toDiagnosesResponseDto)
                 .toList();
         return new PaginatedResponse<>(content, diagnoses.getNumber(), diagnoses.getSize(), diagnoses.getTotalPages(), diagnoses.getTotalElements());
     }
 
+    /**
+     * Obtiene los diagnósticos con paginación por cursor (keyset sobre el id).
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @return Página con los registros en formato DTO y el cursor de la siguiente.
+     */
+    public CursorPage<DiagnosesResponseDto> getDiagnosesByCursor(String cursor, int size, CursorPage.TotalMode totalMode) {
+        int pageSize = CursorPage.clampSize(size);
+        List<DiagnosesModel> rows = diagnosesRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "diagnoses", diagnosesRepository::count);
+        return CursorPage.of(rows, pageSize, DiagnosesModel::getId,
+                page -> page.stream().map(diagnosesMapper::toDiagnosesResponseDto).toList(), total);
+    }
+
     public DiagnosesResponseDto getDiagnosesById(Long id) {
         DiagnosesModel diagnosesModel = diagnosesRepository.findById(id)
                 .orElseThrow(() -> new DianosesNotFoundException("No se encontro el diagnostico con id: " + id));
         return diagnosesMapper.toDiagnosesResponseDto(diagnosesModel);
     }
 
+    /**
+     * Publica el cambio de un diagnóstico en el feed de cambios, con la versión ya asignada.
+     */
+    private void publishChange(DiagnosesModel diagnosis, ChangeEventDto.Action action) {
+        changeFeedPublisher.publish(ChangeEventDto.EntityType.DIAGNOSIS, action, diagnosis.getId(),
+                diagnosis.getVersion(), diagnosis.getMedicalRecord().getPatients().getId());
+    }
+
+    /**
+     * Calcula la ETag de {@link #getDiagnosesById(Long)} leyendo solo la versión del diagnóstico.
+     *
+     * @param id ID del diagnóstico.
+     * @return ETag fuerte del diagnóstico.
+     */
+    public String getDiagnosesETag(Long id) {
+        return diagnosesRepository.findVersionById(id)
+                .map(version -> version.eTag("diagnosis"))
+                .orElseThrow(() -> new DianosesNotFoundException("No se encontro el diagnostico con id: " + id));
+    }
+
+    /**
+     * Obtiene los diagnósticos de la historia clínica de un paciente, del más reciente al más antiguo.
+     *
+     * @param patientId ID del paciente.
+     * @return Lista de diagnósticos, vacía si el paciente no tiene historia clínica.
+     */
+    @Transactional(readOnly = true)
+    public List<DiagnosesResponseDto> getDiagnosesByPatientId(Long patientId) {
+        return diagnosesRepository.findByMedicalRecordPatientsIdOrderByCreatedAtDescIdDesc(patientId).stream()
+                .map(diagnosesMapper::toDiagnosesResponseDto)
+                .toList();
+    }
+
 }
@@ -8,9 +8,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import com.clinica.aura.util.CursorPage;
 
 @RequestMapping("/follow-up-entries")
 @RequiredArgsConstructor
@@ -64,6 +67,28 @@ public class FollowUpEntriesController {
         return ResponseEntity.ok(followUpEntriesService.getFollowUpEntriesPage(page, size));
     }
 
+    /**
+     * Lista los registros de seguimiento con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Obtener seguimientos con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            """)
+    public ResponseEntity<CursorPage<FollowUpEntriesDtoResponse>> getFollowUpEntriesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        return ResponseEntity.ok(followUpEntriesService.getFollowUpEntriesByCursor(cursor, size, total));
+    }
+
+
     /**
      * Endpoint para obtener todos los seguimientos de una historia clínica.
      * <p>
@@ -75,11 +100,15 @@ public class FollowUpEntriesController {
      */
     @Operation(
             summary = "Buscar seguimiento por ID",
-            description = "Obtiene la información de un seguimiento específico a partir de su ID."
+            description = "Obtiene la información de un seguimiento específico a partir de su ID. Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo."
     )
     @GetMapping("/{id}")
-    public ResponseEntity<?> findById(@PathVariable Long id ){
-        return ResponseEntity.ok(followUpEntriesService.findById(id));
+    public ResponseEntity<?> findById(@PathVariable Long id, WebRequest request){
+        String eTag = followUpEntriesService.getFollowUpETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(followUpEntriesService.findById(id));
     }
 
     /**
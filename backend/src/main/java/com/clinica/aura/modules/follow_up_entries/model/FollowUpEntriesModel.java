@@ -29,7 +29,8 @@ public class FollowUpEntriesModel {
      * Identificador único de la entrada de seguimiento.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_up_entries_seq")
+    @SequenceGenerator(name = "follow_up_entries_seq", sequenceName = "follow_up_entries_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -80,4 +81,10 @@ public class FollowUpEntriesModel {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * Versión del registro para bloqueo optimista y ETag.
+     */
+    @Version
+    private Long version;
+
 }
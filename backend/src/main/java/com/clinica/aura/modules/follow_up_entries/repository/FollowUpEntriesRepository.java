@@ -1,7 +1,26 @@
 package com.clinica.aura.modules.follow_up_entries.repository;
 
 import com.clinica.aura.modules.follow_up_entries.model.FollowUpEntriesModel;
+import com.clinica.aura.util.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
 
 public interface FollowUpEntriesRepository extends JpaRepository<FollowUpEntriesModel,Long> {
+
+    /**
+     * Página por cursor: los registros de seguimiento con id mayor a {@code afterId}, en orden de id.
+     */
+    List<FollowUpEntriesModel> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Últimos registros de seguimiento de la historia clínica de un paciente, del más reciente al más antiguo.
+     */
+    List<FollowUpEntriesModel> findByMedicalsPatientsIdOrderByCreatedAtDesc(Long patientId, Limit limit);
+
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(f.id, f.version) FROM FollowUpEntriesModel f WHERE f.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
 }
@@ -1,6 +1,8 @@
 package com.clinica.aura.modules.follow_up_entries.service;
 
 import com.clinica.aura.exceptions.MedicalRecordsNotFoundException;
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedPublisher;
 import com.clinica.aura.modules.follow_up_entries.dtoRequest.FollowUpEntriesDtoRequest;
 import com.clinica.aura.modules.follow_up_entries.dtoRequest.FollowUpEntriesDtoRequestUpdate;
 import com.clinica.aura.modules.follow_up_entries.dtoResponse.FollowUpEntriesDtoResponse;
@@ -17,6 +19,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.clinica.aura.util.CursorPage;
+import com.clinica.aura.util.TableRowEstimator;
+import org.springframework.data.domain.Limit;
+import java.util.List;
 
 /**
  * Servicio para gestionar los registros de seguimiento (FollowUpEntries) asociados a las historias clínicas.
@@ -28,8 +34,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class FollowUpEntriesService {
     private final FollowUpEntriesRepository followUpEntriesRepository;
+    private final TableRowEstimator tableRowEstimator;
     private final MedicalRecordsRepository medicalRecordsRepository;
     private final SecurityUtil securityUtil;
+    private final ChangeFeedPublisher changeFeedPublisher;
 
     /**
      * Crea un nuevo registro de seguimiento asociado a una historia clínica existente.
@@ -40,6 +48,7 @@ public class FollowUpEntriesService {
      */
     @Transactional
     public FollowUpEntriesDtoResponse create(FollowUpEntriesDtoRequest dto) {
+        medicalRecordsRepository.incrementVersion(dto.getMedicalRecordId());
         MedicalRecordsModel medicalRecord = medicalRecordsRepository.findById(dto.getMedicalRecordId())
                 .orElseThrow(() -> new MedicalRecordsNotFoundException(
                         "La historia clínica con ID " + dto.getMedicalRecordId() + " no existe"));
@@ -54,6 +63,7 @@ public class FollowUpEntriesService {
         record.setNextSessionInstructions(dto.getNextSessionInstructions());
 
         followUpEntriesRepository.save(record);
+        publishChange(record, ChangeEventDto.Action.CREATED);
 
         FollowUpEntriesDtoResponse response = new FollowUpEntriesDtoResponse();
         response.setId(record.getId());
@@ -93,6 +103,19 @@ public class FollowUpEntriesService {
         return response;
     }
 
+    /**
+     * Calcula la ETag de {@link #findById(Long)} leyendo solo la versión del registro.
+     *
+     * @param id Identificador del registro.
+     * @return ETag fuerte del registro.
+     * @throws EntityNotFoundException si el registro no existe.
+     */
+    public String getFollowUpETag(Long id) {
+        return followUpEntriesRepository.findVersionById(id)
+                .map(version -> version.eTag("follow-up"))
+                .orElseThrow(() -> new EntityNotFoundException("Registro con id "+ id + " no encontrado"));
+    }
+
     /**
      * Elimina un registro de seguimiento por su ID.
      *
@@ -102,7 +125,10 @@ public class FollowUpEntriesService {
     @Transactional
     public void delete(Long id) {
         FollowUpEntriesModel record = followUpEntriesRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Registro con id "+ id + " no encontrado"));
+        medicalRecordsRepository.incrementVersion(record.getMedicals().getId());
         followUpEntriesRepository.delete(record);
+        changeFeedPublisher.publish(ChangeEventDto.EntityType.FOLLOW_UP, ChangeEventDto.Action.DELETED,
+                id, null, record.getMedicals().getPatients().getId());
     }
 
     /**
@@ -123,7 +149,8 @@ public class FollowUpEntriesService {
         record.setInterventions(dto.getInterventions());
         record.setNextSessionInstructions(dto.getNextSessionInstructions());
 
-        followUpEntriesRepository.save(record);
+        followUpEntriesRepository.saveAndFlush(record);
+        publishChange(record, ChangeEventDto.Action.UPDATED);
 
         FollowUpEntriesDtoResponse response = new FollowUpEntriesDtoResponse();
 
@@ -147,10 +174,53 @@ public class FollowUpEntriesService {
      * @return Página con los registros en formato DTO.
      */
     public Page<FollowUpEntriesDtoResponse> getFollowUpEntriesPage(int page, int size) {
-        Pageable pageable = PageRequest.of(page,size);
+        Pageable pageable = PageRequest.of(page, CursorPage.clampSize(size));
         return followUpEntriesRepository.findAll(pageable).map(this::mapToDto);
     }
 
+    /**
+     * Obtiene los registros de seguimiento con paginación por cursor (keyset sobre el id).
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @return Página con los registros en formato DTO y el cursor de la siguiente.
+     */
+    public CursorPage<FollowUpEntriesDtoResponse> getFollowUpEntriesByCursor(String cursor, int size, CursorPage.TotalMode totalMode) {
+        int pageSize = CursorPage.clampSize(size);
+        List<FollowUpEntriesModel> rows = followUpEntriesRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "follow_up_entries", followUpEntriesRepository::count);
+        return CursorPage.of(rows, pageSize, FollowUpEntriesModel::getId,
+                page -> page.stream().map(this::mapToDto).toList(), total);
+    }
+
+    /**
+     * Obtiene los últimos registros de seguimiento de un paciente, del más reciente al más antiguo.
+     *
+     * @param patientId ID del paciente.
+     * @param limit Cantidad máxima de registros.
+     * @return Lista de registros en formato DTO, vacía si el paciente no tiene historia clínica.
+     */
+    @Transactional(readOnly = true)
+    public List<FollowUpEntriesDtoResponse> getLatestByPatientId(Long patientId, int limit) {
+        return followUpEntriesRepository.findByMedicalsPatientsIdOrderByCreatedAtDesc(patientId, Limit.of(limit))
+                .stream()
+                .map(this::mapToDto)
+                .toList();
+    }
+
+    /**
+     * Publica el cambio de un registro en el feed de cambios, con la versión ya asignada.
+     *
+     * @param record Registro creado o modificado.
+     * @param action Acción realizada.
+     */
+    private void publishChange(FollowUpEntriesModel record, ChangeEventDto.Action action) {
+        changeFeedPublisher.publish(ChangeEventDto.EntityType.FOLLOW_UP, action, record.getId(),
+                record.getVersion(), record.getMedicals().getPatients().getId());
+    }
+
     /**
      * Convierte un modelo de entidad a un DTO de respuesta.
      *
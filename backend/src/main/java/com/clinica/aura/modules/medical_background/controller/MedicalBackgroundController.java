@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -51,11 +52,15 @@ public class MedicalBackgroundController {
      * @param id ID del antecedente médico.
      * @return El antecedente médico encontrado.
      */
-    @Operation(summary = "Obtener todos los antecedentes médicos por ID")
+    @Operation(summary = "Obtener todos los antecedentes médicos por ID", description = "Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo.")
     @GetMapping("/{id}")
-    public ResponseEntity<MedicalBackgroundResponseDto> getById(@PathVariable Long id) {
+    public ResponseEntity<MedicalBackgroundResponseDto> getById(@PathVariable Long id, WebRequest request) {
+        String eTag = medicalBackgroundService.getBackgroundETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         MedicalBackgroundResponseDto background = medicalBackgroundService.findById(id);
-        return new ResponseEntity<>(background, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(eTag).body(background);
     }
 
     /**
@@ -64,11 +69,15 @@ public class MedicalBackgroundController {
      * @param patientId ID del paciente.
      * @return El antecedente médico del paciente.
      */
-    @Operation(summary = "Obtener todos los antecedentes médicos por ID de paciente")
+    @Operation(summary = "Obtener todos los antecedentes médicos por ID de paciente", description = "Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo.")
     @GetMapping("/patient/{patientId}")
-    public ResponseEntity<MedicalBackgroundResponseDto> getByPatientId(@PathVariable Long patientId) {
+    public ResponseEntity<MedicalBackgroundResponseDto> getByPatientId(@PathVariable Long patientId, WebRequest request) {
+        String eTag = medicalBackgroundService.getBackgroundETagByPatientId(patientId);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         MedicalBackgroundResponseDto background = medicalBackgroundService.findByPatientId(patientId);
-        return new ResponseEntity<>(background, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(eTag).body(background);
     }
 
     /**
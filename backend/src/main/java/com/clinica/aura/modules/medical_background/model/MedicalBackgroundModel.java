@@ -22,7 +22,8 @@ import java.util.List;
 public class MedicalBackgroundModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medical_background_seq")
+    @SequenceGenerator(name = "medical_background_seq", sequenceName = "medical_background_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -45,6 +46,9 @@ public class MedicalBackgroundModel {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "created_by")
     private ProfessionalModel createdBy;
@@ -1,8 +1,11 @@
 package com.clinica.aura.modules.medical_background.repository;
 
 import com.clinica.aura.modules.medical_background.model.MedicalBackgroundModel;
+import com.clinica.aura.util.EntityVersion;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,5 +14,11 @@ public interface MedicalBackgroundRepository extends JpaRepository<MedicalBackgr
 
     Optional<MedicalBackgroundModel> findByPatientId(Long patientId);
 
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(b.id, b.version) FROM MedicalBackgroundModel b WHERE b.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(b.id, b.version) FROM MedicalBackgroundModel b WHERE b.patient.id = :patientId")
+    Optional<EntityVersion> findVersionByPatientId(@Param("patientId") Long patientId);
+
 }
 
@@ -6,17 +6,14 @@ import com.clinica.aura.modules.medical_background.dto.MedicalBackgroundResponse
 import com.clinica.aura.modules.medical_background.model.MedicalBackgroundModel;
 import com.clinica.aura.modules.medical_background.repository.MedicalBackgroundRepository;
 import com.clinica.aura.modules.patient.repository.PatientRepository;
-import com.clinica.aura.modules.professional.repository.ProfessionalRepository;
 import com.clinica.aura.modules.patient.model.PatientModel;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
 import com.clinica.aura.exceptions.ConflictWithExistingRecord;
 import com.clinica.aura.exceptions.UnauthorizedAccessException;
 import com.clinica.aura.exceptions.ProfessionalNotFoundException;
-import com.clinica.aura.modules.user_account.models.UserModel;
-import com.clinica.aura.modules.user_account.repository.UserRepository;
+import com.clinica.aura.util.SecurityUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -36,8 +34,7 @@ public class MedicalBackgroundService {
 
     private final MedicalBackgroundRepository medicalBackgroundRepository;
     private final PatientRepository patientRepository;
-    private final UserRepository userRepository;
-    private final ProfessionalRepository professionalRepository;
+    private final SecurityUtil securityUtil;
 
     /**
      * Crea un nuevo antecedente médico para un paciente.
@@ -59,16 +56,7 @@ public class MedicalBackgroundService {
             throw new ConflictWithExistingRecord("El paciente con id " + dto.getPatientId() + " ya tiene antecedentes médicos registrados");
         }
 
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        if ("anonymousUser".equals(email)) {
-            throw new UnauthorizedAccessException("Debe iniciar sesión un profesional para registrar antecedentes médicos");
-        }
-
-        UserModel user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con email: " + email));
-
-        ProfessionalModel professional = professionalRepository.findByPerson(user.getPerson())
-                .orElseThrow(() -> new ProfessionalNotFoundException("Profesional no encontrado para el usuario con id: " + user.getPerson().getId()));
+        ProfessionalModel professional = securityUtil.getAuthenticatedProfessional();
 
         MedicalBackgroundModel background = new MedicalBackgroundModel();
         background.setPatient(patient);
@@ -111,6 +99,50 @@ public class MedicalBackgroundService {
         return mapToDto(background);
     }
 
+    /**
+     * Calcula la ETag de {@link #findById(Long)} leyendo solo la versión del antecedente, que también
+     * se incrementa al modificar las listas de alergias y discapacidades.
+     *
+     * @param id ID del antecedente médico.
+     * @return ETag fuerte del antecedente.
+     * @throws EntityNotFoundException si no se encuentra el antecedente.
+     */
+    public String getBackgroundETag(Long id) {
+        return medicalBackgroundRepository.findVersionById(id)
+                .map(version -> version.eTag("medical-background"))
+                .orElseThrow(() -> new EntityNotFoundException("Antecedente médico no encontrado con ID: " + id));
+    }
+
+    /**
+     * Calcula la ETag de {@link #findByPatientId(Long)} leyendo solo la versión del antecedente.
+     *
+     * @param patientId ID del paciente.
+     * @return ETag fuerte del antecedente del paciente.
+     * @throws EntityNotFoundException si el paciente no tiene antecedentes registrados.
+     */
+    public String getBackgroundETagByPatientId(Long patientId) {
+        return medicalBackgroundRepository.findVersionByPatientId(patientId)
+                .map(version -> version.eTag("medical-background"))
+                .orElseThrow(() -> new EntityNotFoundException("Antecedente médico no encontrado para el paciente con ID: " + patientId));
+    }
+
+    /**
+     * Obtiene los antecedentes médicos (alergias y discapacidades) de un paciente, si tiene.
+     * Las listas se copian dentro de la transacción para poder usarse fuera de ella.
+     *
+     * @param patientId ID del paciente.
+     * @return DTO con los antecedentes, o vacío si el paciente no tiene antecedentes registrados.
+     */
+    @Transactional(readOnly = true)
+    public Optional<MedicalBackgroundResponseDto> findOptionalByPatientId(Long patientId) {
+        return medicalBackgroundRepository.findByPatientId(patientId).map(background -> {
+            MedicalBackgroundResponseDto dto = mapToDto(background);
+            dto.setAllergies(background.getAllergies() != null ? new ArrayList<>(background.getAllergies()) : List.of());
+            dto.setDisabilities(background.getDisabilities() != null ? new ArrayList<>(background.getDisabilities()) : List.of());
+            return dto;
+        });
+    }
+
     /**
      * Obtiene la lista de todos los antecedentes médicos registrados.
      *
@@ -138,12 +170,7 @@ public class MedicalBackgroundService {
         MedicalBackgroundModel background = medicalBackgroundRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Antecedente médico no encontrado con ID: " + id));
 
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        UserModel user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con email: " + email));
-
-        ProfessionalModel professional = professionalRepository.findByPerson(user.getPerson())
-                .orElseThrow(() -> new ProfessionalNotFoundException("Profesional no encontrado para el usuario con id: " + user.getPerson().getId()));
+        ProfessionalModel professional = securityUtil.getAuthenticatedProfessional();
 
         background.setAllergies(dto.getAllergies());
         background.setDisabilities(dto.getDisabilities());
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 @Table(name = "medical_notes_files")
 public class MedicalNotesFilesModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medical_notes_files_seq")
+    @SequenceGenerator(name = "medical_notes_files_seq", sequenceName = "medical_notes_files_seq", allocationSize = 50)
     private Long id;
     private String file_name;
     private String patient_name;
@@ -4,13 +4,16 @@ import com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsRespon
 import com.clinica.aura.modules.medical_records.dtoRequest.MedicalRecordsRequestDto;
 import com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsSummaryDto;
 import com.clinica.aura.modules.medical_records.service.MedicalRecordsService;
+import com.clinica.aura.util.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -56,10 +59,14 @@ public class MedicalRecordsController {
      */
 
     @Operation(summary = "Obtener un historial",
-            description = "Obtiene un historial clinico por su ID.")
+            description = "Obtiene un historial clinico por su ID. Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo.")
     @GetMapping("/{id}")
-    public ResponseEntity<?> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findById(id));
+    public ResponseEntity<?> findById(@PathVariable Long id, WebRequest request) {
+        String eTag = service.getMedicalRecordETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(service.findById(id));
     }
 
     /**
@@ -76,11 +83,16 @@ public class MedicalRecordsController {
     @Operation(
             summary = "Obtener seguimientos por ID de paciente",
             description = "Devuelve una lista de registros de seguimiento vinculados al paciente con el ID especificado. "
-                    + "Este endpoint permite consultar todos los seguimientos registrados para un paciente en particular."
+                    + "Este endpoint permite consultar todos los seguimientos registrados para un paciente en particular. "
+                    + "Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo."
     )
     @GetMapping("/patient/{idPatient}")
-    public ResponseEntity<?> findByIPatients(@PathVariable Long idPatient) {
-        return ResponseEntity.ok(service.findByPatientsId(idPatient));
+    public ResponseEntity<?> findByIPatients(@PathVariable Long idPatient, WebRequest request) {
+        String eTag = service.getMedicalRecordETagByPatientId(idPatient);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(service.findByPatientsId(idPatient));
     }
 
     /**
@@ -105,6 +117,27 @@ public class MedicalRecordsController {
         return ResponseEntity.ok(service.getMedicalRecordsPage(page, size));
     }
 
+    /**
+     * Lista los historiales clínicos con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Obtener historiales con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            """)
+    public ResponseEntity<CursorPage<MedicalRecordsResponseDto>> getMedicalRecordsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        return ResponseEntity.ok(service.getMedicalRecordsByCursor(cursor, size, total));
+    }
+
 
     /**
      * Endpoint para obtener un listado de historiales clínicos filtrados.
@@ -131,5 +164,4 @@ public class MedicalRecordsController {
     }
 
 
-
 }
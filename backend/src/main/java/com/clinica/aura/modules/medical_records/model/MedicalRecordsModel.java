@@ -21,7 +21,8 @@ import java.util.List;
 @Table(name = "medical_records")
 public class MedicalRecordsModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medical_records_seq")
+    @SequenceGenerator(name = "medical_records_seq", sequenceName = "medical_records_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(targetEntity = PatientModel.class, fetch = FetchType.LAZY)
@@ -48,4 +49,7 @@ public class MedicalRecordsModel {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
@@ -1,6 +1,8 @@
 package com.clinica.aura.modules.medical_records.repository;
 
+import com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsSummaryDto;
 import com.clinica.aura.modules.medical_records.model.MedicalRecordsModel;
+import com.clinica.aura.util.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 
 public interface MedicalRecordsRepository extends JpaRepository<MedicalRecordsModel,Long> {
     @Modifying
@@ -20,6 +23,38 @@ public interface MedicalRecordsRepository extends JpaRepository<MedicalRecordsMo
 
     Optional<MedicalRecordsModel> findByPatientsId(Long patientId);
 
+    /**
+     * Incrementa la versión de la historia clínica. Se usa al agregar o quitar diagnósticos y
+     * seguimientos, cuyos ids forman parte de la representación de la historia. Al ser un UPDATE
+     * directo, dos altas concurrentes sobre la misma historia se serializan con el lock de la fila
+     * en lugar de fallar por bloqueo optimista.
+     *
+     * @return 1 si la historia existe, 0 si no
+     */
+    @Modifying
+    @Query("UPDATE MedicalRecordsModel m SET m.version = m.version + 1 WHERE m.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(m.id, m.version) FROM MedicalRecordsModel m WHERE m.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(m.id, m.version) FROM MedicalRecordsModel m WHERE m.patients.id = :patientId")
+    Optional<EntityVersion> findVersionByPatientId(@Param("patientId") Long patientId);
+
+    /**
+     * Resumen de la historia clínica de un paciente (especialidad y nombre del profesional que la creó)
+     * en una sola consulta.
+     */
+    @Query("""
+            SELECT new com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsSummaryDto(
+                m.id, pr.specialty, CONCAT(per.name, ' ', per.lastName), CAST(m.createdAt AS LocalDate))
+            FROM MedicalRecordsModel m
+            LEFT JOIN m.createdBy pr
+            LEFT JOIN pr.person per
+            WHERE m.patients.id = :patientId
+            """)
+    Optional<MedicalRecordsSummaryDto> findSummaryByPatientId(@Param("patientId") Long patientId);
+
     List<MedicalRecordsModel> findAllByOrderByCreatedAtAsc();
 
 
@@ -42,4 +77,8 @@ public interface MedicalRecordsRepository extends JpaRepository<MedicalRecordsMo
             @Param("professionalName") String professionalName
     );
 
+    /**
+     * Página por cursor: los historiales clínicos con id mayor a {@code afterId}, en orden de id.
+     */
+    List<MedicalRecordsModel> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -1,5 +1,7 @@
 package com.clinica.aura.modules.medical_records.service;
 
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedPublisher;
 import com.clinica.aura.modules.diagnoses.model.DiagnosesModel;
 import com.clinica.aura.modules.follow_up_entries.model.FollowUpEntriesModel;
 import com.clinica.aura.modules.medical_records.dtoRequest.*;
@@ -13,10 +15,13 @@ import com.clinica.aura.modules.patient.repository.PatientRepository;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
 import com.clinica.aura.exceptions.ConflictWithExistingRecord;
 import com.clinica.aura.exceptions.PatientNotFoundException;
+import com.clinica.aura.util.CursorPage;
 import com.clinica.aura.util.SecurityUtil;
+import com.clinica.aura.util.TableRowEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,8 +40,10 @@ import java.util.Optional;
 public class MedicalRecordsService {
 
     private final MedicalRecordsRepository medicalRecordsRepository;
+    private final TableRowEstimator tableRowEstimator;
     private final PatientRepository patientRepository;
     private final SecurityUtil securityUtil;
+    private final ChangeFeedPublisher changeFeedPublisher;
 
     /**
      * Crea un nuevo registro médico para un paciente.
@@ -77,6 +84,8 @@ public class MedicalRecordsService {
         record.setUpdatedBy(professionalModel);
         record.setPatients(patient);
         medicalRecordsRepository.save(record);
+        changeFeedPublisher.publish(ChangeEventDto.EntityType.MEDICAL_RECORD, ChangeEventDto.Action.CREATED,
+                record.getId(), record.getVersion(), patient.getId());
 
         MedicalRecordsResponseDto response = new MedicalRecordsResponseDto();
         response.setId(record.getId());
@@ -213,10 +222,27 @@ public class MedicalRecordsService {
      */
 
     public Page<MedicalRecordsResponseDto>  getMedicalRecordsPage(int page, int size) {
-        Pageable pageable = PageRequest.of(page,size);
+        Pageable pageable = PageRequest.of(page, CursorPage.clampSize(size));
         return medicalRecordsRepository.findAll(pageable).map(this::mapToDto);
     }
 
+    /**
+     * Obtiene los historiales clínicos con paginación por cursor (keyset sobre el id).
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @return Página con los registros en formato DTO y el cursor de la siguiente.
+     */
+    public CursorPage<MedicalRecordsResponseDto> getMedicalRecordsByCursor(String cursor, int size, CursorPage.TotalMode totalMode) {
+        int pageSize = CursorPage.clampSize(size);
+        List<MedicalRecordsModel> rows = medicalRecordsRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "medical_records", medicalRecordsRepository::count);
+        return CursorPage.of(rows, pageSize, MedicalRecordsModel::getId,
+                page -> page.stream().map(this::mapToDto).toList(), total);
+    }
+
 
     /**
      * Mapea un MedicalRecordsModel a un MedicalRecordsResponseDto.
@@ -238,6 +264,44 @@ public class MedicalRecordsService {
     }
 
 
+    /**
+     * Calcula la ETag de {@link #findById(Long)} leyendo solo la versión del registro. La versión se
+     * incrementa también al agregar o quitar diagnósticos y seguimientos.
+     *
+     * @param id el ID del registro médico
+     * @return ETag fuerte del registro
+     * @throws EntityNotFoundException si el registro no existe
+     */
+    public String getMedicalRecordETag(Long id) {
+        return medicalRecordsRepository.findVersionById(id)
+                .map(version -> version.eTag("medical-record"))
+                .orElseThrow(() -> new EntityNotFoundException("Registro no encontrado"));
+    }
+
+    /**
+     * Calcula la ETag de {@link #findByPatientsId(Long)} leyendo solo la versión del registro.
+     *
+     * @param patientId el ID del paciente
+     * @return ETag fuerte del registro del paciente
+     * @throws EntityNotFoundException si el paciente no tiene historia clínica
+     */
+    public String getMedicalRecordETagByPatientId(Long patientId) {
+        return medicalRecordsRepository.findVersionByPatientId(patientId)
+                .map(version -> version.eTag("medical-record"))
+                .orElseThrow(() -> new EntityNotFoundException("Historia clínica no encontrada para el paciente con ID: " + patientId));
+    }
+
+    /**
+     * Obtiene el resumen de la historia clínica de un paciente, si existe.
+     *
+     * @param patientId ID del paciente
+     * @return el resumen (especialidad y nombre del profesional que la creó, fecha de creación)
+     */
+    @Transactional(readOnly = true)
+    public Optional<MedicalRecordsSummaryDto> findSummaryByPatientId(Long patientId) {
+        return medicalRecordsRepository.findSummaryByPatientId(patientId);
+    }
+
     /**
      * Obtiene el historial clínico filtrado por especialidad, profesional y fecha.
      *
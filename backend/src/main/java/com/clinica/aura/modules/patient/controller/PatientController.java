@@ -4,23 +4,39 @@ package com.clinica.aura.modules.patient.controller;
 
 import com.clinica.aura.exceptions.InvalidDniFormatException;
 import com.clinica.aura.exceptions.InvalidNameFormatException;
+import com.clinica.aura.modules.patient.dto.PatientOverviewDto;
 import com.clinica.aura.modules.patient.dto.PatientRequestDto;
 import com.clinica.aura.modules.patient.dto.PatientResponseDto;
+import com.clinica.aura.modules.patient.dto.PatientImportJobDto;
+import com.clinica.aura.modules.patient.service.PatientExportService;
+import com.clinica.aura.modules.patient.service.PatientImportService;
+import com.clinica.aura.modules.patient.service.PatientOverviewService;
 import com.clinica.aura.modules.patient.service.PatientService;
+import com.clinica.aura.util.CursorPage;
 import com.clinica.aura.util.PaginatedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controlador REST que gestiona las operaciones relacionadas con los pacientes.
@@ -35,6 +51,12 @@ import java.util.Map;
 public class PatientController {
 
     private final PatientService patientService;
+    private final PatientImportService patientImportService;
+    private final PatientExportService patientExportService;
+    private final PatientOverviewService patientOverviewService;
+
+    @Value("${patient.export.timeout-ms:1800000}")
+    private long exportTimeoutMillis;
 
     /**
      * Registra un nuevo paciente en el sistema.
@@ -56,6 +78,95 @@ public class PatientController {
     }
 
 
+    /**
+     * Inicia la importación masiva de pacientes desde un archivo CSV o NDJSON.
+     * El archivo se procesa en segundo plano; el progreso se consulta con el id devuelto.
+     * @param file archivo con los pacientes a importar
+     * @return estado inicial de la importación, con su id
+     */
+    @Operation(summary = "Importar pacientes en forma masiva", description = """
+            Recibe un archivo CSV (con encabezado) o NDJSON (un paciente JSON por línea) con los mismos campos que
+            /patients/register y lo procesa en segundo plano, en bloques. En CSV, 'professionalIds' se separa con ';'.
+            Cada fila se valida igual que en el registro individual; las filas inválidas o con email/DNI ya
+            existentes se informan como errores sin detener la importación. Devuelve 202 con el id del trabajo,
+            que se consulta en GET /patients/import/{jobId}.
+            """)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RECEPTIONIST')")
+    public ResponseEntity<PatientImportJobDto> importPatients(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(patientImportService.startImport(file));
+    }
+
+
+    /**
+     * Consulta el progreso y los errores por fila de una importación masiva.
+     * @param jobId id de la importación
+     * @return estado de la importación
+     */
+    @Operation(summary = "Consultar una importación masiva de pacientes",
+            description = "Devuelve el estado, el progreso y los errores por fila de una importación iniciada con POST /patients/import.")
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RECEPTIONIST')")
+    public ResponseEntity<PatientImportJobDto> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(patientImportService.getJob(jobId));
+    }
+
+
+    /**
+     * Exporta todos los pacientes activos como NDJSON o CSV, en streaming.
+     * Solo esta descarga extiende el tiempo límite asíncrono a {@code patient.export.timeout-ms}; el resto
+     * de las peticiones asíncronas conserva el de Spring MVC. Si ya hay demasiadas exportaciones en curso
+     * responde 503.
+     * @param format  formato de salida (NDJSON o CSV)
+     * @param gzip    si es true, la salida se comprime con gzip
+     * @param request petición actual, para ajustar su tiempo límite asíncrono
+     * @return cuerpo que se escribe progresivamente en la respuesta
+     */
+    @Operation(summary = "Exportar pacientes", description = """
+            Exporta el padrón de pacientes activos (datos personales, obra social, escuela e IDs de profesionales)
+            ordenado por ID. 'format' admite NDJSON (por defecto, un paciente JSON por línea) o CSV (con encabezado;
+            'professionalIds' separados con ';'). Con gzip=true la respuesta se comprime. Los datos se envían a
+            medida que se leen de la base de datos, por lo que la descarga comienza de inmediato. Si ya hay
+            demasiadas exportaciones en curso responde 503 con Retry-After.
+            """)
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RECEPTIONIST')")
+    public ResponseEntity<StreamingResponseBody> exportPatients(
+            @RequestParam(defaultValue = "NDJSON") PatientExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            WebRequest request) {
+        String extension = format == PatientExportService.Format.CSV ? "csv" : "ndjson";
+        MediaType mediaType = format == PatientExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeoutMillis);
+        patientExportService.acquireSlot();
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true)) {
+                        patientExportService.export(gzipOut, format);
+                    }
+                } else {
+                    patientExportService.export(out, format);
+                }
+            } finally {
+                patientExportService.releaseSlot();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"patients." + extension + (gzip ? ".gz" : "") + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+
     /**
      * Recupera una lista paginada de pacientes.
      * @param page número de página (comienza en 0)
@@ -70,6 +181,27 @@ public class PatientController {
         return ResponseEntity.ok(patientService.getAllPatients(page, size));
     }
 
+    /**
+     * Lista los pacientes activos con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar pacientes con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            """)
+    public ResponseEntity<CursorPage<PatientResponseDto>> getPatientsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        return ResponseEntity.ok(patientService.getPatientsByCursor(cursor, size, total));
+    }
+
 
     /**
      * Busca un paciente por su ID.
@@ -77,9 +209,34 @@ public class PatientController {
      * @return DTO con los datos del paciente
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar paciente por ID", description = "Devuelve los datos de un paciente específico según su ID.")
-    public ResponseEntity<PatientResponseDto> getPatientById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(patientService.getPatientById(id));
+    @Operation(summary = "Buscar paciente por ID", description = "Devuelve los datos de un paciente específico según su ID. "
+            + "Admite If-None-Match: si la ETag coincide responde 304 sin cuerpo.")
+    public ResponseEntity<PatientResponseDto> getPatientById(@PathVariable("id") Long id, WebRequest request) {
+        String eTag = patientService.getPatientETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(patientService.getPatientById(id));
+    }
+
+    /**
+     * Devuelve la vista general de un paciente en una sola llamada. Incluye diagnósticos y
+     * seguimientos, por lo que queda restringida a los mismos roles que esos endpoints.
+     * @param id        identificador único del paciente
+     * @param followUps cantidad de seguimientos recientes a incluir
+     * @return DTO con los datos del paciente y sus secciones clínicas
+     */
+    @GetMapping("/{id}/overview")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
+    @Operation(summary = "Vista general del paciente", description = """
+            Devuelve en una sola llamada los datos del paciente, el resumen de su historia clínica,
+            alergias y discapacidades, los últimos seguimientos (parámetro followUps, máximo 50) y sus
+            diagnósticos. Las secciones clínicas se cargan en paralelo con un tiempo límite: si alguna no
+            responde a tiempo se devuelve en null y su nombre aparece en unavailableSections.
+            """)
+    public ResponseEntity<PatientOverviewDto> getPatientOverview(@PathVariable("id") Long id,
+                                                                 @RequestParam(defaultValue = "10") int followUps) {
+        return ResponseEntity.ok(patientOverviewService.getOverview(id, followUps));
     }
 
 
@@ -126,19 +283,24 @@ public class PatientController {
      * Solo se permiten letras, tildes y espacios.
      * @param name     nombre del paciente (opcional)
      * @param lastName apellido del paciente (opcional)
-     * @return lista de pacientes coincidentes
+     * @param page     número de página (comienza en 0)
+     * @param size     cantidad de registros por página
+     * @return página de pacientes coincidentes, ordenados por similitud
      * @throws InvalidNameFormatException si alguno de los campos contiene números o caracteres especiales
      */
     @GetMapping("/search/name")
     @Operation(
             summary = "Buscar paciente por nombre o apellido",
-            description = "Busca un paciente por nombre, apellido o ambos (coincidencia parcial o total). " +
-                    "Se debe completar al menos uno de los dos campos. Si se ingresan caracteres especiales o números, " +
-                    "el sistema devolverá un error indicando que solo se permiten letras."
+            description = "Busca un paciente por nombre, apellido o ambos (coincidencia parcial o total, sin distinguir " +
+                    "mayúsculas ni acentos y en cualquier orden). Los resultados se ordenan por similitud y se devuelven " +
+                    "paginados (máximo 50 por página). Se debe completar al menos uno de los dos campos. Si se ingresan " +
+                    "caracteres especiales o números, el sistema devolverá un error indicando que solo se permiten letras."
     )
-    public ResponseEntity<List<PatientResponseDto>> getPatientsByName(
+    public ResponseEntity<PaginatedResponse<PatientResponseDto>> getPatientsByName(
             @RequestParam(name = "name", required = false) String name,
-            @RequestParam(name = "lastName", required = false) String lastName) {
+            @RequestParam(name = "lastName", required = false) String lastName,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
 
         name = (name == null || name.trim().isEmpty()) ? null : name.trim();
         lastName = (lastName == null || lastName.trim().isEmpty()) ? null : lastName.trim();
@@ -153,7 +315,7 @@ public class PatientController {
             throw new InvalidNameFormatException("Los campos 'name' y 'lastName' deben contener solo letras.");
         }
 
-        return ResponseEntity.ok(patientService.getPatientsByName(name,lastName));
+        return ResponseEntity.ok(patientService.getPatientsByName(name, lastName, page, size));
     }
 
 
@@ -0,0 +1,43 @@
+package com.clinica.aura.modules.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado y progreso de una importación masiva de pacientes.
+ */
+@Getter
+@Builder
+public class PatientImportJobDto {
+    @Schema(description = "Identificador del trabajo de importación")
+    private UUID jobId;
+
+    @Schema(description = "Estado: PENDING, RUNNING, COMPLETED o FAILED", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Filas procesadas hasta el momento", example = "1500")
+    private int processedRows;
+
+    @Schema(description = "Pacientes importados", example = "1490")
+    private int importedRows;
+
+    @Schema(description = "Filas rechazadas", example = "10")
+    private int failedRows;
+
+    @Schema(description = "Errores por fila (se conservan hasta un máximo configurable)")
+    private List<PatientImportRowErrorDto> errors;
+
+    @Schema(description = "Indica si se descartaron errores por superar el máximo")
+    private boolean errorsTruncated;
+
+    @Schema(description = "Mensaje general del trabajo, por ejemplo el motivo de un fallo")
+    private String message;
+
+    private Instant createdAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,14 @@
+package com.clinica.aura.modules.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Error de una fila de una importación masiva de pacientes.
+ *
+ * @param row     número de fila en el archivo (1 = primera fila de datos)
+ * @param message motivo por el que la fila no se importó
+ */
+public record PatientImportRowErrorDto(
+        @Schema(description = "Número de fila de datos en el archivo", example = "12") int row,
+        @Schema(description = "Motivo del rechazo", example = "El correo juan@example.com ya existe en la base de datos.") String message) {
+}
@@ -0,0 +1,39 @@
+package com.clinica.aura.modules.patient.dto;
+
+import com.clinica.aura.modules.diagnoses.dtoResponse.DiagnosesResponseDto;
+import com.clinica.aura.modules.follow_up_entries.dtoResponse.FollowUpEntriesDtoResponse;
+import com.clinica.aura.modules.medical_background.dto.MedicalBackgroundResponseDto;
+import com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsSummaryDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Vista general de un paciente: datos personales, resumen de la historia clínica, antecedentes
+ * médicos, últimos seguimientos y diagnósticos. Las secciones que no respondieron a tiempo o
+ * fallaron quedan en null y se listan en {@code unavailableSections}.
+ */
+@Getter
+@Builder
+public class PatientOverviewDto {
+
+    @Schema(description = "Datos del paciente")
+    private PatientResponseDto patient;
+
+    @Schema(description = "Resumen de la historia clínica, null si el paciente no tiene o no estuvo disponible")
+    private MedicalRecordsSummaryDto medicalRecord;
+
+    @Schema(description = "Alergias y discapacidades, null si el paciente no tiene o no estuvo disponible")
+    private MedicalBackgroundResponseDto medicalBackground;
+
+    @Schema(description = "Últimos seguimientos, del más reciente al más antiguo")
+    private List<FollowUpEntriesDtoResponse> latestFollowUps;
+
+    @Schema(description = "Diagnósticos, del más reciente al más antiguo")
+    private List<DiagnosesResponseDto> diagnoses;
+
+    @Schema(description = "Secciones que no se pudieron cargar a tiempo", example = "[\"diagnoses\"]")
+    private List<String> unavailableSections;
+}
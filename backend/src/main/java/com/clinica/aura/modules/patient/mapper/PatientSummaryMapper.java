@@ -0,0 +1,49 @@
+package com.clinica.aura.modules.patient.mapper;
+
+import com.clinica.aura.modules.patient.dto.PatientResponseDto;
+import com.clinica.aura.modules.patient.model.PatientSummaryModel;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Convierte filas de patient_summary en {@link PatientResponseDto}. La edad se calcula al leer,
+ * a partir de la fecha de nacimiento, para que no quede desactualizada en el modelo de lectura.
+ */
+@Component
+public class PatientSummaryMapper {
+
+    public PatientResponseDto toResponseDto(PatientSummaryModel summary) {
+        return PatientResponseDto.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .lastName(summary.getLastName())
+                .phoneNumber(summary.getPhoneNumber())
+                .birthDate(summary.getBirthDate())
+                .dni(summary.getDni())
+                .email(summary.getEmail())
+                .hasInsurance(summary.isHasInsurance())
+                .insuranceName(summary.getInsuranceName())
+                .insurancePlan(summary.getInsurancePlan())
+                .memberShipNumber(summary.getMemberShipNumber())
+                .address(summary.getAddress())
+                .tutorName(summary.getTutorName())
+                .relationToPatient(summary.getRelationToPatient())
+                .genre(summary.getGenre())
+                .professionalIds(summary.getProfessionalIds() != null ? summary.getProfessionalIds() : List.of())
+                .schoolId(summary.getSchoolId())
+                .age(calculateAge(summary.getBirthDate()))
+                .build();
+    }
+
+    public List<PatientResponseDto> toResponseDtos(List<PatientSummaryModel> summaries) {
+        return summaries.stream().map(this::toResponseDto).toList();
+    }
+
+    private int calculateAge(LocalDate birthDate) {
+        if (birthDate == null) return 0;
+        return Period.between(birthDate, LocalDate.now()).getYears();
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
  * - professionals: lista de profesionales asignados (relación @ManyToMany).
  * - schoolModel: escuela asociada (opcional, @ManyToOne).
  * - createdAt y updatedAt: timestamps de auditoría automática.
+ * - version: versión para bloqueo optimista.
  */
 @Entity
 @Setter
@@ -66,12 +67,15 @@ public class PatientModel {
     private List<ProfessionalModel> professionals;
 
 
-    @UpdateTimestamp
+    @CreationTimestamp
     private LocalDateTime createdAt;
 
-    @CreationTimestamp
+    @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @ManyToOne(targetEntity = SchoolModel.class, fetch = FetchType.LAZY)
     private SchoolModel  schoolModel;
 
@@ -0,0 +1,53 @@
+package com.clinica.aura.modules.patient.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Modelo de lectura desnormalizado de un paciente (tabla patient_summary).
+ * Contiene todo lo que necesita {@code PatientResponseDto}, de modo que las lecturas de pacientes
+ * se resuelven con una sola consulta indexada. Es de solo lectura para JPA: se escribe con
+ * {@code PatientSummaryRepository.refresh*} a partir de las tablas normalizadas.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "patient_summary")
+public class PatientSummaryModel {
+    @Id
+    private Long id;
+
+    private String name;
+    private String lastName;
+    private String phoneNumber;
+    private LocalDate birthDate;
+    private String dni;
+    private String email;
+    private boolean hasInsurance;
+    private String insuranceName;
+    private String insurancePlan;
+    private String memberShipNumber;
+    private String address;
+    private String tutorName;
+    private String relationToPatient;
+    private String genre;
+    private Long schoolId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "professional_ids", columnDefinition = "bigint[]")
+    private List<Long> professionalIds;
+
+    private String searchName;
+    private boolean deleted;
+    private LocalDateTime updatedAt;
+    private long version;
+}
@@ -0,0 +1,143 @@
+package com.clinica.aura.modules.patient.repository;
+
+import com.clinica.aura.modules.patient.dto.PatientRequestDto;
+import com.clinica.aura.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Acceso JDBC para la importación masiva de pacientes: verificaciones de unicidad por conjunto
+ * y escritura con inserciones en lote sobre person, patients, users, users_roles y professional_patient,
+ * más una sola sentencia que completa patient_summary para el lote.
+ * Los ids se reservan de antemano desde las secuencias de cada tabla para poder insertar en lote,
+ * respetando los bloques del optimizador pooled que usa Hibernate sobre esas mismas secuencias.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatientBulkRepository {
+
+    /** Debe coincidir con el allocationSize de los @SequenceGenerator de las entidades. */
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting("SELECT email FROM users WHERE email IN (:values)", emails, String.class);
+    }
+
+    public Set<String> findExistingDnis(Collection<String> dnis) {
+        return findExisting("SELECT dni FROM person WHERE dni IN (:values)", dnis, String.class);
+    }
+
+    public Set<Long> findExistingProfessionalIds(Collection<Long> ids) {
+        return findExisting("SELECT id FROM professional WHERE id IN (:values) AND deleted = false", ids, Long.class);
+    }
+
+    public Set<Long> findExistingSchoolIds(Collection<Long> ids) {
+        return findExisting("SELECT id FROM schools WHERE id IN (:values)", ids, Long.class);
+    }
+
+    /**
+     * Inserta los pacientes indicados con sus personas, usuarios, rol y profesionales asignados.
+     * Debe ejecutarse dentro de una transacción.
+     *
+     * @param patients      pacientes ya validados
+     * @param patientRoleId id del rol PATIENT
+     */
+    public void insertPatients(List<PatientRequestDto> patients, long patientRoleId) {
+        int size = patients.size();
+        List<Long> personIds = nextIds("person_seq", size);
+        List<Long> userIds = nextIds("users_seq", size);
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        Date today = Date.valueOf(now.toLocalDate());
+
+        List<Object[]> persons = new ArrayList<>(size);
+        List<Object[]> patientRows = new ArrayList<>(size);
+        List<Object[]> users = new ArrayList<>(size);
+        List<Object[]> userRoles = new ArrayList<>(size);
+        List<Object[]> assignments = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            PatientRequestDto patient = patients.get(i);
+            Long personId = personIds.get(i);
+            Long userId = userIds.get(i);
+            LocalDate birthDate = patient.getBirthDate();
+
+            persons.add(new Object[]{personId, patient.getDni(), patient.getName(), patient.getLastName(),
+                    patient.getPhoneNumber(), birthDate == null ? null : Date.valueOf(birthDate),
+                    TextNormalizer.normalizeName(patient.getName(), patient.getLastName())});
+            patientRows.add(new Object[]{personId, patient.isHasInsurance(), patient.getInsuranceName(),
+                    patient.getAddress(), patient.getTutorName(), patient.getRelationToPatient(), patient.getGenre(),
+                    patient.getInsurancePlan(), patient.getMemberShipNumber(), nowTimestamp, nowTimestamp,
+                    patient.getSchoolId()});
+            users.add(new Object[]{userId, patient.getEmail(), "", today, today, personId});
+            userRoles.add(new Object[]{userId, patientRoleId});
+            if (patient.getProfessionalIds() != null) {
+                for (Long professionalId : new HashSet<>(patient.getProfessionalIds())) {
+                    assignments.add(new Object[]{personId, professionalId});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO person (id, dni, name, last_name, phone_number, birth_date, search_name)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, persons);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO patients (id, has_insurance, insurance_name, address, tutor_name, relation_to_patient,
+                                      genre, insurance_plan, member_ship_number, created_at, updated_at,
+                                      school_model_id, deleted)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)
+                """, patientRows);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, email, password, register_date, last_login, person_id)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, users);
+        jdbcTemplate.batchUpdate("INSERT INTO users_roles (user_id, role_id) VALUES (?, ?)", userRoles);
+        if (!assignments.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO professional_patient (patient_id, professional_id) VALUES (?, ?)", assignments);
+        }
+        namedJdbcTemplate.update(
+                PatientSummaryRepository.UPSERT_SELECT + " WHERE p.id IN (:ids)" + PatientSummaryRepository.UPSERT_CONFLICT,
+                new MapSqlParameterSource("ids", personIds));
+    }
+
+    /**
+     * Reserva {@code count} ids de la secuencia indicada. Cada nextval corresponde a un bloque
+     * (valor - 49 .. valor), igual que en el optimizador pooled de Hibernate.
+     */
+    private List<Long> nextIds(String sequence, int count) {
+        int blocks = (count + SEQUENCE_ALLOCATION_SIZE - 1) / SEQUENCE_ALLOCATION_SIZE;
+        List<Long> upperBounds = jdbcTemplate.queryForList(
+                "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+        List<Long> ids = new ArrayList<>(blocks * SEQUENCE_ALLOCATION_SIZE);
+        for (Long upperBound : upperBounds) {
+            for (long id = upperBound - SEQUENCE_ALLOCATION_SIZE + 1; id <= upperBound; id++) {
+                ids.add(id);
+            }
+        }
+        return ids.subList(0, count);
+    }
+
+    private <T> Set<T> findExisting(String sql, Collection<T> values, Class<T> type) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(sql, new MapSqlParameterSource("values", values), type));
+    }
+}
@@ -0,0 +1,124 @@
+package com.clinica.aura.modules.patient.repository;
+
+import com.clinica.aura.modules.patient.model.PatientSummaryModel;
+import com.clinica.aura.util.EntityVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PatientSummaryRepository extends JpaRepository<PatientSummaryModel, Long> {
+
+    /**
+     * Recalcula filas de patient_summary desde las tablas normalizadas. Se completa con un WHERE
+     * sobre {@code p} (patients) y {@link #UPSERT_CONFLICT}.
+     */
+    String UPSERT_SELECT = """
+            INSERT INTO patient_summary (id, name, last_name, phone_number, birth_date, dni, email, has_insurance,
+                                         insurance_name, insurance_plan, member_ship_number, address, tutor_name,
+                                         relation_to_patient, genre, school_id, professional_ids, search_name,
+                                         deleted, updated_at)
+            SELECT p.id, per.name, per.last_name, per.phone_number, per.birth_date, per.dni, u.email, p.has_insurance,
+                   p.insurance_name, p.insurance_plan, p.member_ship_number, p.address, p.tutor_name,
+                   p.relation_to_patient, p.genre, p.school_model_id,
+                   ARRAY(SELECT pp.professional_id
+                         FROM professional_patient pp
+                         JOIN professional pr ON pr.id = pp.professional_id AND pr.deleted = false
+                         WHERE pp.patient_id = p.id
+                         ORDER BY pp.professional_id),
+                   per.search_name, p.deleted, now()
+            FROM patients p
+            JOIN person per ON per.id = p.id
+            LEFT JOIN users u ON u.person_id = per.id
+            """;
+
+    String UPSERT_CONFLICT = """
+             ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name, last_name = EXCLUDED.last_name, phone_number = EXCLUDED.phone_number,
+                birth_date = EXCLUDED.birth_date, dni = EXCLUDED.dni, email = EXCLUDED.email,
+                has_insurance = EXCLUDED.has_insurance, insurance_name = EXCLUDED.insurance_name,
+                insurance_plan = EXCLUDED.insurance_plan, member_ship_number = EXCLUDED.member_ship_number,
+                address = EXCLUDED.address, tutor_name = EXCLUDED.tutor_name,
+                relation_to_patient = EXCLUDED.relation_to_patient, genre = EXCLUDED.genre,
+                school_id = EXCLUDED.school_id, professional_ids = EXCLUDED.professional_ids,
+                search_name = EXCLUDED.search_name, deleted = EXCLUDED.deleted, updated_at = EXCLUDED.updated_at,
+                version = patient_summary.version + 1
+            """;
+
+    /**
+     * Recalcula el resumen de los pacientes indicados. Los cambios pendientes de la sesión se
+     * envían antes a la base de datos y luego se limpia el contexto de persistencia, por lo que debe
+     * llamarse al final de la transacción de escritura.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = UPSERT_SELECT + " WHERE p.id IN (:ids)" + UPSERT_CONFLICT, nativeQuery = true)
+    void refresh(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recalcula el resumen de todos los pacientes asignados a un profesional.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = UPSERT_SELECT
+            + " WHERE p.id IN (SELECT patient_id FROM professional_patient WHERE professional_id = :professionalId)"
+            + UPSERT_CONFLICT, nativeQuery = true)
+    void refreshByProfessional(@Param("professionalId") Long professionalId);
+
+    Optional<PatientSummaryModel> findByIdAndDeletedFalse(Long id);
+
+    Optional<PatientSummaryModel> findByDniAndDeletedFalse(String dni);
+
+    Page<PatientSummaryModel> findByDeletedFalse(Pageable pageable);
+
+    /**
+     * Página por cursor de pacientes activos: id mayor a {@code afterId}, en orden de id.
+     */
+    List<PatientSummaryModel> findByDeletedFalseAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    long countByDeletedFalse();
+
+    /**
+     * Versión del resumen de un paciente activo, sin leer el resto de la fila.
+     */
+    @Query("SELECT new com.clinica.aura.util.EntityVersion(s.id, s.version) FROM PatientSummaryModel s WHERE s.id = :id AND s.deleted = false")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Busca pacientes activos por nombre y/o apellido sobre {@code search_name} (minúsculas, sin acentos),
+     * servida por el índice de trigramas. Cada palabra clave puede coincidir con el nombre o el apellido,
+     * en cualquier orden, y una palabra clave vacía no filtra. Se ordena por similitud con {@code query}.
+     *
+     * @param kw1   Primera palabra clave normalizada (name), o cadena vacía.
+     * @param kw2   Segunda palabra clave normalizada (lastName), o cadena vacía.
+     * @param query Texto normalizado completo usado para el ranking.
+     */
+    @Query(value = """
+            SELECT * FROM patient_summary s
+            WHERE s.deleted = false
+              AND s.search_name LIKE CONCAT('%', :kw1, '%')
+              AND s.search_name LIKE CONCAT('%', :kw2, '%')
+            ORDER BY similarity(s.search_name, :query) DESC, s.id
+            """,
+            countQuery = """
+            SELECT COUNT(*) FROM patient_summary s
+            WHERE s.deleted = false
+              AND s.search_name LIKE CONCAT('%', :kw1, '%')
+              AND s.search_name LIKE CONCAT('%', :kw2, '%')
+            """,
+            nativeQuery = true)
+    Page<PatientSummaryModel> searchByNormalizedName(@Param("kw1") String kw1, @Param("kw2") String kw2,
+                                                     @Param("query") String query, Pageable pageable);
+
+    /**
+     * Pacientes asignados a un profesional, servidos por el índice GIN sobre professional_ids.
+     */
+    @Query(value = "SELECT * FROM patient_summary WHERE professional_ids @> ARRAY[:professionalId]::bigint[] ORDER BY id",
+            nativeQuery = true)
+    List<PatientSummaryModel> findByProfessionalId(@Param("professionalId") Long professionalId);
+}
@@ -0,0 +1,252 @@
+package com.clinica.aura.modules.patient.service;
+
+import com.clinica.aura.exceptions.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Exporta el padrón de pacientes activos como NDJSON o CSV leyendo de un cursor del lado del servidor.
+ *
+ * La consulta sobre el modelo de lectura patient_summary se ejecuta dentro de una transacción de
+ * solo lectura con {@code fetchSize}, por lo que el driver de PostgreSQL trae las filas de a bloques
+ * y cada fila se escribe en la respuesta apenas se lee: el uso de memoria no depende de la cantidad de pacientes. La salida se vacía (flush)
+ * cada {@code patient.export.flush-rows} filas para que el cliente reciba los datos progresivamente.
+ *
+ * Cada exportación retiene una transacción y una conexión de Hikari mientras dura la descarga, por lo
+ * que la cantidad de exportaciones simultáneas se limita a {@code patient.export.max-concurrent}: quien
+ * supera el límite recibe {@link ServiceOverloadedException} (503) en lugar de esperar una conexión.
+ */
+@Slf4j
+@Service
+public class PatientExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String EXPORT_SQL = """
+            SELECT id, name, last_name, phone_number, birth_date, dni, email,
+                   has_insurance, insurance_name, insurance_plan, member_ship_number, address,
+                   tutor_name, relation_to_patient, genre, school_id, professional_ids
+            FROM patient_summary
+            WHERE deleted = false
+            ORDER BY id
+            """;
+
+    private static final String[] CSV_HEADER = {
+            "id", "name", "lastName", "phoneNumber", "birthDate", "dni", "email", "age", "hasInsurance",
+            "insuranceName", "insurancePlan", "memberShipNumber", "address", "tutorName", "relationToPatient",
+            "genre", "schoolId", "professionalIds"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushRows;
+    private final Semaphore exportSlots;
+
+    public PatientExportService(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${patient.export.fetch-size:1000}") int fetchSize,
+                                @Value("${patient.export.flush-rows:500}") int flushRows,
+                                @Value("${patient.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushRows = flushRows;
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Reserva un lugar para una exportación. Debe liberarse con {@link #releaseSlot()} al terminar la descarga.
+     *
+     * @throws ServiceOverloadedException si ya hay {@code patient.export.max-concurrent} exportaciones en curso
+     */
+    public void acquireSlot() {
+        if (!exportSlots.tryAcquire()) {
+            throw new ServiceOverloadedException("Hay demasiadas exportaciones en curso, intente nuevamente más tarde", 30);
+        }
+    }
+
+    /**
+     * Libera el lugar reservado con {@link #acquireSlot()}.
+     */
+    public void releaseSlot() {
+        exportSlots.release();
+    }
+
+    /**
+     * Escribe todos los pacientes activos en la salida indicada, ordenados por id.
+     *
+     * @param out    flujo de salida de la respuesta (ya comprimido si corresponde)
+     * @param format formato de salida
+     * @return cantidad de pacientes exportados
+     */
+    public long export(OutputStream out, Format format) throws IOException {
+        try {
+            Long exported = readOnlyTransaction.execute(status -> format == Format.NDJSON
+                    ? exportNdjson(out)
+                    : exportCsv(out));
+            return exported == null ? 0 : exported;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long exportNdjson(OutputStream out) {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long[] count = {0};
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    writeJson(json, rs);
+                    json.writeRaw('\n');
+                    if (++count[0] % flushRows == 0) {
+                        json.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.flush();
+            return count[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long exportCsv(OutputStream out) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+            long[] count = {0};
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    writeCsv(writer, rs);
+                    if (++count[0] % flushRows == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            return count[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJson(JsonGenerator json, ResultSet rs) throws IOException, SQLException {
+        LocalDate birthDate = toLocalDate(rs.getDate("birth_date"));
+        json.writeStartObject();
+        json.writeNumberField("id", rs.getLong("id"));
+        json.writeStringField("name", rs.getString("name"));
+        json.writeStringField("lastName", rs.getString("last_name"));
+        json.writeStringField("phoneNumber", rs.getString("phone_number"));
+        json.writeStringField("birthDate", birthDate == null ? null : birthDate.toString());
+        json.writeStringField("dni", rs.getString("dni"));
+        json.writeStringField("email", rs.getString("email"));
+        json.writeNumberField("age", age(birthDate));
+        json.writeBooleanField("hasInsurance", rs.getBoolean("has_insurance"));
+        json.writeStringField("insuranceName", rs.getString("insurance_name"));
+        json.writeStringField("insurancePlan", rs.getString("insurance_plan"));
+        json.writeStringField("memberShipNumber", rs.getString("member_ship_number"));
+        json.writeStringField("address", rs.getString("address"));
+        json.writeStringField("tutorName", rs.getString("tutor_name"));
+        json.writeStringField("relationToPatient", rs.getString("relation_to_patient"));
+        json.writeStringField("genre", rs.getString("genre"));
+        long schoolId = rs.getLong("school_id");
+        if (rs.wasNull()) {
+            json.writeNullField("schoolId");
+        } else {
+            json.writeNumberField("schoolId", schoolId);
+        }
+        json.writeArrayFieldStart("professionalIds");
+        for (Long professionalId : professionalIds(rs)) {
+            json.writeNumber(professionalId);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void writeCsv(Writer writer, ResultSet rs) throws IOException, SQLException {
+        LocalDate birthDate = toLocalDate(rs.getDate("birth_date"));
+        long schoolId = rs.getLong("school_id");
+        String school = rs.wasNull() ? "" : Long.toString(schoolId);
+        StringBuilder professionals = new StringBuilder();
+        for (Long professionalId : professionalIds(rs)) {
+            if (!professionals.isEmpty()) professionals.append(';');
+            professionals.append(professionalId);
+        }
+        String[] values = {
+                Long.toString(rs.getLong("id")), rs.getString("name"), rs.getString("last_name"),
+                rs.getString("phone_number"), birthDate == null ? null : birthDate.toString(), rs.getString("dni"),
+                rs.getString("email"), Integer.toString(age(birthDate)), Boolean.toString(rs.getBoolean("has_insurance")),
+                rs.getString("insurance_name"), rs.getString("insurance_plan"), rs.getString("member_ship_number"),
+                rs.getString("address"), rs.getString("tutor_name"), rs.getString("relation_to_patient"),
+                rs.getString("genre"), school, professionals.toString()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(csvEscape(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private Long[] professionalIds(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("professional_ids");
+        if (array == null) {
+            return new Long[0];
+        }
+        try {
+            return (Long[]) array.getArray();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static int age(LocalDate birthDate) {
+        return birthDate == null ? 0 : Period.between(birthDate, LocalDate.now()).getYears();
+    }
+
+    /**
+     * Escapa un valor CSV y neutraliza fórmulas (=, +, -, @) para evitar inyección al abrirlo en planillas.
+     */
+    static String csvEscape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
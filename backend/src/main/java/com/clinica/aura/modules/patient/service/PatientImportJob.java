@@ -0,0 +1,87 @@
+package com.clinica.aura.modules.patient.service;
+
+import com.clinica.aura.modules.patient.dto.PatientImportJobDto;
+import com.clinica.aura.modules.patient.dto.PatientImportRowErrorDto;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estado en memoria de una importación masiva de pacientes. Lo actualiza el hilo que procesa
+ * el archivo y lo consultan las solicitudes de progreso. La lista de errores está acotada.
+ */
+@Getter
+class PatientImportJob {
+
+    enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant createdAt = Instant.now();
+    private final int maxErrors;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<PatientImportRowErrorDto> errors = new ArrayList<>();
+    private volatile Status status = Status.PENDING;
+    private volatile boolean errorsTruncated;
+    private volatile String message;
+    private volatile Instant finishedAt;
+
+    PatientImportJob(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void imported(int rows) {
+        processed.addAndGet(rows);
+        imported.addAndGet(rows);
+    }
+
+    void rejected(int row, String reason) {
+        processed.incrementAndGet();
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new PatientImportRowErrorDto(row, reason));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    void finish(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    PatientImportJobDto toDto() {
+        List<PatientImportRowErrorDto> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        return PatientImportJobDto.builder()
+                .jobId(id)
+                .status(status.name())
+                .processedRows(processed.get())
+                .importedRows(imported.get())
+                .failedRows(failed.get())
+                .errors(snapshot)
+                .errorsTruncated(errorsTruncated)
+                .message(message)
+                .createdAt(createdAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.clinica.aura.modules.patient.service;
+
+import com.clinica.aura.modules.patient.dto.PatientRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lee un archivo de importación de pacientes fila por fila, sin cargarlo completo en memoria.
+ *
+ * Formatos soportados:
+ * <ul>
+ *     <li>CSV con encabezado: los nombres de columna son los campos de {@link PatientRequestDto}
+ *         ({@code email,dni,name,lastName,...}); {@code professionalIds} se separa con {@code ;}.</li>
+ *     <li>NDJSON: un objeto JSON de {@link PatientRequestDto} por línea.</li>
+ * </ul>
+ * Las líneas vacías se ignoran. Los campos CSV admiten comillas dobles, pero no saltos de línea.
+ */
+class PatientImportReader implements Closeable {
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * Fila leída: el DTO o el error de lectura de esa fila.
+     */
+    record ParsedRow(int row, PatientRequestDto patient, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private int row;
+
+    PatientImportReader(Path file, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            String headerLine = nextNonBlankLine();
+            if (headerLine == null) {
+                throw new IOException("El archivo CSV está vacío");
+            }
+            this.header = splitCsvLine(stripBom(headerLine)).stream().map(String::trim).toList();
+        }
+    }
+
+    /**
+     * @return la siguiente fila, o null al llegar al final del archivo
+     */
+    ParsedRow next() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        row++;
+        try {
+            PatientRequestDto patient = format == Format.CSV
+                    ? objectMapper.convertValue(toFields(line), PatientRequestDto.class)
+                    : objectMapper.readValue(stripBom(line), PatientRequestDto.class);
+            return new ParsedRow(row, patient, null);
+        } catch (IOException | IllegalArgumentException e) {
+            return new ParsedRow(row, null, "Formato de fila inválido: " + rootMessage(e));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Object> toFields(String line) {
+        List<String> values = splitCsvLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("se esperaban " + header.size() + " columnas y hay " + values.size());
+        }
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if ("professionalIds".equals(header.get(i))) {
+                fields.put(header.get(i), Arrays.stream(value.split(";")).map(String::trim).filter(id -> !id.isEmpty()).toList());
+            } else {
+                fields.put(header.get(i), value);
+            }
+        }
+        return fields;
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        String message = root.getMessage();
+        if (message == null) {
+            return root.getClass().getSimpleName();
+        }
+        int newline = message.indexOf('\n');
+        return newline > 0 ? message.substring(0, newline) : message;
+    }
+}
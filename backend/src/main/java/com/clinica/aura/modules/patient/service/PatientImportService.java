@@ -0,0 +1,297 @@
+package com.clinica.aura.modules.patient.service;
+
+import com.clinica.aura.exceptions.ImportJobNotFoundException;
+import com.clinica.aura.exceptions.InvalidImportFileException;
+import com.clinica.aura.exceptions.ServiceOverloadedException;
+import com.clinica.aura.modules.patient.dto.PatientImportJobDto;
+import com.clinica.aura.modules.patient.dto.PatientRequestDto;
+import com.clinica.aura.modules.patient.repository.PatientBulkRepository;
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
+import com.clinica.aura.modules.user_account.models.RoleModel;
+import com.clinica.aura.modules.user_account.repository.RoleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de pacientes desde archivos CSV o NDJSON.
+ *
+ * El archivo se procesa en segundo plano leyéndolo fila por fila y en bloques de
+ * {@code patient.import.chunk-size} filas: cada bloque se valida, se verifican email, DNI,
+ * profesionales y escuela con una consulta por conjunto, y las filas válidas se insertan en lote
+ * dentro de una transacción. El progreso y los errores por fila se consultan con el id del trabajo.
+ */
+@Slf4j
+@Service
+public class PatientImportService {
+
+    private final PatientBulkRepository patientBulkRepository;
+    private final RoleRepository roleRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, PatientImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Duration jobRetention;
+
+    public PatientImportService(PatientBulkRepository patientBulkRepository,
+                                RoleRepository roleRepository,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${patient.import.chunk-size:500}") int chunkSize,
+                                @Value("${patient.import.max-errors:1000}") int maxErrors,
+                                @Value("${patient.import.threads:2}") int threads,
+                                @Value("${patient.import.queue-capacity:10}") int queueCapacity,
+                                @Value("${patient.import.job-retention-ms:86400000}") long jobRetentionMs) {
+        this.patientBulkRepository = patientBulkRepository;
+        this.roleRepository = roleRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.jobRetention = Duration.ofMillis(jobRetentionMs);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "patient-import");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Recibe el archivo, lo copia a un archivo temporal y encola su procesamiento.
+     *
+     * @param file archivo CSV (.csv / text/csv) o NDJSON (.ndjson, .jsonl / application/x-ndjson)
+     * @return el estado inicial del trabajo, con su id
+     * @throws InvalidImportFileException si el archivo está vacío o su formato no es soportado
+     * @throws ServiceOverloadedException si ya hay demasiadas importaciones en curso
+     */
+    public PatientImportJobDto startImport(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidImportFileException("El archivo de importación está vacío.");
+        }
+        PatientImportReader.Format format = detectFormat(file);
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("patient-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new InvalidImportFileException("No se pudo leer el archivo de importación.");
+        }
+
+        PatientImportJob job = new PatientImportJob(maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, tempFile, format));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(tempFile);
+            throw new ServiceOverloadedException("Hay demasiadas importaciones en curso, intente nuevamente más tarde", 30);
+        }
+        log.info("Importación de pacientes {} encolada ({}, {} bytes)", job.getId(), format, file.getSize());
+        return job.toDto();
+    }
+
+    /**
+     * @param jobId id del trabajo de importación
+     * @return el progreso y los errores del trabajo
+     * @throws ImportJobNotFoundException si el trabajo no existe o ya fue descartado
+     */
+    public PatientImportJobDto getJob(UUID jobId) {
+        PatientImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("No se encontró la importación con ID: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    /**
+     * Descarta los trabajos terminados hace más de {@code patient.import.job-retention-ms}.
+     */
+    @Scheduled(fixedDelayString = "${patient.import.purge-interval-ms:3600000}")
+    public void purgeFinishedJobs() {
+        Instant limit = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(PatientImportJob job, Path file, PatientImportReader.Format format) {
+        job.start();
+        try (PatientImportReader reader = new PatientImportReader(file, format, objectMapper)) {
+            long patientRoleId = roleRepository.findByEnumRole(EnumRole.PATIENT)
+                    .map(RoleModel::getId)
+                    .orElseThrow(() -> new IllegalStateException("El rol PATIENT no está configurado en la base de datos."));
+
+            List<PatientImportReader.ParsedRow> chunk = new ArrayList<>(chunkSize);
+            PatientImportReader.ParsedRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    processChunk(job, chunk, patientRoleId);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk, patientRoleId);
+            }
+            job.finish(PatientImportJob.Status.COMPLETED, null);
+            log.info("Importación de pacientes {} finalizada: {} importados, {} rechazados",
+                    job.getId(), job.getImported().get(), job.getFailed().get());
+        } catch (Exception e) {
+            job.finish(PatientImportJob.Status.FAILED, "La importación se interrumpió: " + e.getMessage());
+            log.error("Importación de pacientes {} fallida", job.getId(), e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void processChunk(PatientImportJob job, List<PatientImportReader.ParsedRow> chunk, long patientRoleId) {
+        Map<Integer, String> rejected = new HashMap<>();
+        List<PatientImportReader.ParsedRow> candidates = new ArrayList<>(chunk.size());
+
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenDnis = new HashSet<>();
+        for (PatientImportReader.ParsedRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.patient());
+            if (error == null && !seenEmails.add(row.patient().getEmail())) {
+                error = "El correo " + row.patient().getEmail() + " está repetido en el archivo.";
+            }
+            if (error == null && !seenDnis.add(row.patient().getDni())) {
+                error = "El DNI " + row.patient().getDni() + " está repetido en el archivo.";
+            }
+            if (error != null) {
+                rejected.put(row.row(), error);
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        Set<String> existingEmails = patientBulkRepository.findExistingEmails(
+                candidates.stream().map(row -> row.patient().getEmail()).toList());
+        Set<String> existingDnis = patientBulkRepository.findExistingDnis(
+                candidates.stream().map(row -> row.patient().getDni()).toList());
+        Set<Long> existingProfessionals = patientBulkRepository.findExistingProfessionalIds(
+                candidates.stream()
+                        .map(row -> row.patient().getProfessionalIds())
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .collect(Collectors.toSet()));
+        Set<Long> existingSchools = patientBulkRepository.findExistingSchoolIds(
+                candidates.stream()
+                        .map(row -> row.patient().getSchoolId())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+
+        List<PatientImportReader.ParsedRow> valid = new ArrayList<>(candidates.size());
+        for (PatientImportReader.ParsedRow row : candidates) {
+            PatientRequestDto patient = row.patient();
+            if (existingEmails.contains(patient.getEmail())) {
+                rejected.put(row.row(), "El correo " + patient.getEmail() + " ya existe en la base de datos.");
+            } else if (existingDnis.contains(patient.getDni())) {
+                rejected.put(row.row(), "El DNI " + patient.getDni() + " ya está registrado en la base de datos.");
+            } else if (patient.getSchoolId() != null && !existingSchools.contains(patient.getSchoolId())) {
+                rejected.put(row.row(), "La escuela con ID " + patient.getSchoolId() + " no fue encontrada.");
+            } else if (patient.getProfessionalIds() != null
+                    && !existingProfessionals.containsAll(patient.getProfessionalIds())) {
+                List<Long> missing = patient.getProfessionalIds().stream()
+                        .filter(id -> !existingProfessionals.contains(id))
+                        .toList();
+                rejected.put(row.row(), "Los siguientes profesionales no fueron encontrados: " + missing);
+            } else {
+                valid.add(row);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            try {
+                List<PatientRequestDto> patients = valid.stream().map(PatientImportReader.ParsedRow::patient).toList();
+                transactionTemplate.executeWithoutResult(status ->
+                        patientBulkRepository.insertPatients(patients, patientRoleId));
+                job.imported(valid.size());
+            } catch (DataAccessException e) {
+                log.warn("Importación de pacientes {}: bloque de {} filas rechazado - {}",
+                        job.getId(), valid.size(), e.getMostSpecificCause().getMessage());
+                valid.forEach(row -> rejected.put(row.row(),
+                        "No se pudo guardar el bloque de filas (posible dato duplicado cargado en paralelo)."));
+            }
+        }
+
+        rejected.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> job.rejected(entry.getKey(), entry.getValue()));
+    }
+
+    private String validate(PatientRequestDto patient) {
+        Set<ConstraintViolation<PatientRequestDto>> violations = validator.validate(patient);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> {
+                    String field = violation.getPropertyPath().toString();
+                    return field.isEmpty() ? violation.getMessage() : field + ": " + violation.getMessage();
+                })
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private PatientImportReader.Format detectFormat(MultipartFile file) {
+        String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        String contentType = file.getContentType() == null ? "" : file.getContentType().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv") || contentType.startsWith("text/csv")) {
+            return PatientImportReader.Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || contentType.startsWith("application/x-ndjson")) {
+            return PatientImportReader.Format.NDJSON;
+        }
+        throw new InvalidImportFileException("Formato de archivo no soportado. Use CSV (.csv) o NDJSON (.ndjson).");
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal {}", file);
+        }
+    }
+}
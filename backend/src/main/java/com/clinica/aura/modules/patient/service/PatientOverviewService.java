@@ -0,0 +1,157 @@
+package com.clinica.aura.modules.patient.service;
+
+import com.clinica.aura.exceptions.PatientNotFoundException;
+import com.clinica.aura.modules.diagnoses.dtoResponse.DiagnosesResponseDto;
+import com.clinica.aura.modules.diagnoses.service.DiagnosesService;
+import com.clinica.aura.modules.follow_up_entries.dtoResponse.FollowUpEntriesDtoResponse;
+import com.clinica.aura.modules.follow_up_entries.service.FollowUpEntriesService;
+import com.clinica.aura.modules.medical_background.dto.MedicalBackgroundResponseDto;
+import com.clinica.aura.modules.medical_background.service.MedicalBackgroundService;
+import com.clinica.aura.modules.medical_records.dtoResponse.MedicalRecordsSummaryDto;
+import com.clinica.aura.modules.medical_records.service.MedicalRecordsService;
+import com.clinica.aura.modules.patient.dto.PatientOverviewDto;
+import com.clinica.aura.modules.patient.dto.PatientResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Arma la vista general de un paciente en una sola llamada.
+ *
+ * Los datos del paciente se leen primero (y definen el 404); el resto de las secciones son
+ * independientes y se consultan en paralelo en un pool acotado, cada una en su propia transacción
+ * de solo lectura. Todas comparten un plazo de {@code patient.overview.section-timeout-ms}: la
+ * sección que no termina a tiempo, falla o no entra en la cola se cancela y se informa en
+ * {@code unavailableSections}, devolviendo el resto de la vista igualmente.
+ */
+@Slf4j
+@Service
+public class PatientOverviewService {
+
+    static final String MEDICAL_RECORD = "medicalRecord";
+    static final String MEDICAL_BACKGROUND = "medicalBackground";
+    static final String FOLLOW_UPS = "latestFollowUps";
+    static final String DIAGNOSES = "diagnoses";
+
+    private final PatientService patientService;
+    private final MedicalRecordsService medicalRecordsService;
+    private final MedicalBackgroundService medicalBackgroundService;
+    private final FollowUpEntriesService followUpEntriesService;
+    private final DiagnosesService diagnosesService;
+    private final ThreadPoolExecutor executor;
+
+    private final Duration sectionTimeout;
+    private final int maxFollowUps;
+
+    public PatientOverviewService(PatientService patientService,
+                                  MedicalRecordsService medicalRecordsService,
+                                  MedicalBackgroundService medicalBackgroundService,
+                                  FollowUpEntriesService followUpEntriesService,
+                                  DiagnosesService diagnosesService,
+                                  @Value("${patient.overview.threads:6}") int threads,
+                                  @Value("${patient.overview.queue-capacity:100}") int queueCapacity,
+                                  @Value("${patient.overview.section-timeout-ms:2000}") long sectionTimeoutMs,
+                                  @Value("${patient.overview.max-follow-ups:50}") int maxFollowUps) {
+        this.patientService = patientService;
+        this.medicalRecordsService = medicalRecordsService;
+        this.medicalBackgroundService = medicalBackgroundService;
+        this.followUpEntriesService = followUpEntriesService;
+        this.diagnosesService = diagnosesService;
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+        this.maxFollowUps = maxFollowUps;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "patient-overview");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Obtiene la vista general del paciente.
+     *
+     * @param patientId ID del paciente
+     * @param followUps cantidad de seguimientos a incluir (entre 1 y {@code patient.overview.max-follow-ups})
+     * @return la vista general, con las secciones no disponibles en null
+     * @throws PatientNotFoundException si el paciente no existe o está eliminado
+     */
+    public PatientOverviewDto getOverview(Long patientId, int followUps) {
+        PatientResponseDto patient = patientService.getPatientById(patientId);
+        int followUpLimit = Math.max(1, Math.min(followUps, maxFollowUps));
+
+        Future<Optional<MedicalRecordsSummaryDto>> medicalRecord =
+                submit(MEDICAL_RECORD, () -> medicalRecordsService.findSummaryByPatientId(patientId));
+        Future<Optional<MedicalBackgroundResponseDto>> medicalBackground =
+                submit(MEDICAL_BACKGROUND, () -> medicalBackgroundService.findOptionalByPatientId(patientId));
+        Future<List<FollowUpEntriesDtoResponse>> latestFollowUps =
+                submit(FOLLOW_UPS, () -> followUpEntriesService.getLatestByPatientId(patientId, followUpLimit));
+        Future<List<DiagnosesResponseDto>> diagnoses =
+                submit(DIAGNOSES, () -> diagnosesService.getDiagnosesByPatientId(patientId));
+
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
+        List<String> unavailable = new ArrayList<>();
+
+        Optional<MedicalRecordsSummaryDto> record = await(MEDICAL_RECORD, medicalRecord, deadline, unavailable);
+        Optional<MedicalBackgroundResponseDto> background = await(MEDICAL_BACKGROUND, medicalBackground, deadline, unavailable);
+
+        return PatientOverviewDto.builder()
+                .patient(patient)
+                .medicalRecord(record != null ? record.orElse(null) : null)
+                .medicalBackground(background != null ? background.orElse(null) : null)
+                .latestFollowUps(await(FOLLOW_UPS, latestFollowUps, deadline, unavailable))
+                .diagnoses(await(DIAGNOSES, diagnoses, deadline, unavailable))
+                .unavailableSections(unavailable)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(String section, Callable<T> loader) {
+        try {
+            return executor.submit(loader);
+        } catch (RejectedExecutionException e) {
+            log.warn("Vista general: sección {} descartada, el pool está saturado", section);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Espera el resultado de una sección hasta el plazo común. Si no llega a tiempo o falla,
+     * la cancela, la agrega a {@code unavailable} y devuelve null.
+     */
+    private <T> T await(String section, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Vista general: la sección {} superó los {} ms", section, sectionTimeout.toMillis());
+        } catch (ExecutionException | CancellationException e) {
+            log.warn("Vista general: la sección {} falló: {}", section,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        unavailable.add(section);
+        return null;
+    }
+}
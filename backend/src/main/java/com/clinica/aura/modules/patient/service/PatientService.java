@@ -9,14 +9,20 @@ import com.clinica.aura.exceptions.SchoolNotFoundException;
 
 import com.clinica.aura.exceptions.*;
 
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedPublisher;
 import com.clinica.aura.modules.medical_records.repository.MedicalRecordsRepository;
 import com.clinica.aura.modules.patient.dto.PatientRequestDto;
 import com.clinica.aura.modules.patient.dto.PatientResponseDto;
+import com.clinica.aura.modules.patient.mapper.PatientSummaryMapper;
 import com.clinica.aura.modules.patient.model.PatientModel;
+import com.clinica.aura.modules.patient.model.PatientSummaryModel;
 import com.clinica.aura.modules.patient.repository.PatientRepository;
+import com.clinica.aura.modules.patient.repository.PatientSummaryRepository;
 import com.clinica.aura.modules.person.model.PersonModel;
 import com.clinica.aura.modules.person.repository.PersonRepository;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
+import com.clinica.aura.modules.professional.repository.ProfessionalAssignmentRepository;
 import com.clinica.aura.modules.professional.repository.ProfessionalRepository;
 import com.clinica.aura.modules.school.model.SchoolModel;
 import com.clinica.aura.modules.school.repository.SchoolRepository;
@@ -25,12 +31,17 @@ import com.clinica.aura.modules.user_account.models.RoleModel;
 import com.clinica.aura.modules.user_account.models.UserModel;
 import com.clinica.aura.modules.user_account.repository.RoleRepository;
 import com.clinica.aura.modules.user_account.repository.UserRepository;
+import com.clinica.aura.util.CursorPage;
+import com.clinica.aura.util.EntityVersion;
 import com.clinica.aura.util.PaginatedResponse;
+import com.clinica.aura.util.TableRowEstimator;
+import com.clinica.aura.util.TextNormalizer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,15 +49,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Period;
 import java.util.Optional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.time.format.DateTimeFormatter;
 
 @Service
 @RequiredArgsConstructor
 public class PatientService {
+    private static final int MAX_NAME_SEARCH_PAGE_SIZE = 50;
+
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
@@ -55,6 +68,11 @@ public class PatientService {
     private final PersonRepository personRepository;
     private final MedicalRecordsRepository medicalRecordsRepository;
     private final ProfessionalRepository professionalRepository;
+    private final ProfessionalAssignmentRepository professionalAssignmentRepository;
+    private final PatientSummaryRepository patientSummaryRepository;
+    private final PatientSummaryMapper patientSummaryMapper;
+    private final TableRowEstimator tableRowEstimator;
+    private final ChangeFeedPublisher changeFeedPublisher;
 
 
     @PersistenceContext
@@ -165,8 +183,6 @@ public class PatientService {
 
         patientRepository.save(patientModel);
 
-        int currentAge= calculatorAge(patientModel.getId(), birthDate);
-
         UserModel userEntity = UserModel.builder()
                 .email(email)
                 .password("")
@@ -176,31 +192,7 @@ public class PatientService {
 
         userRepository.save(userEntity);
 
-
-        return PatientResponseDto.builder()
-                .id(personEntity.getId())
-                .email(userEntity.getEmail())
-                .name(personEntity.getName())
-                .lastName(personEntity.getLastName())
-                .phoneNumber(personEntity.getPhoneNumber())
-                .birthDate(personEntity.getBirthDate())
-                .dni(personEntity.getDni())
-                .hasInsurance(patientModel.isHasInsurance())
-                .insuranceName(patientModel.getInsuranceName())
-                .insurancePlan(patientModel.getInsurancePlan())
-                .memberShipNumber(patientModel.getMemberShipNumber())
-                .address(patientModel.getAddress())
-                .tutorName(patientModel.getTutorName())
-                .relationToPatient(patientModel.getRelationToPatient())
-                .genre(patientModel.getGenre())
-                .professionalIds(
-                        patientModel.getProfessionals() != null
-                                ? patientModel.getProfessionals().stream().map(ProfessionalModel::getId).toList()
-                                : Collections.emptyList()
-                )
-                .schoolId(patientModel.getSchoolModel() != null ? patientModel.getSchoolModel().getId() : null)
-                .age(currentAge)
-                .build();
+        return refreshSummary(patientModel.getId(), ChangeEventDto.Action.CREATED);
     }
 
     /**
@@ -212,6 +204,7 @@ public class PatientService {
      * @throws PatientNotFoundException Si no se encuentra un paciente con el ID proporcionado.
      * @throws SchoolNotFoundException Si no se encuentra una escuela con el ID proporcionado.
      */
+    @Transactional
     public void assignSchoolToPatient(Long patientId, Long schoolId) {
         PatientModel patient = patientRepository.findById(patientId).orElseThrow(() -> new PatientNotFoundException("Paciente no encontrado con ID: " + patientId));
         SchoolModel school = entityManager.find(SchoolModel.class, schoolId);
@@ -220,59 +213,22 @@ public class PatientService {
         }
         patient.setSchoolModel(school);
         patientRepository.save(patient);
+        refreshSummary(patientId, ChangeEventDto.Action.UPDATED);
     }
 
     /**
      * Recupera una lista paginada de todos los pacientes registrados en el sistema.
-     * Este método consulta la base de datos utilizando paginación y transforma cada entidad
-     * {@code PatientModel} en un {@code PatientResponseDto}. También incluye información asociada,
-     * como datos personales, usuario (si existe), escuela y profesionales.
+     * Se sirve desde el modelo de lectura patient_summary con una única consulta.
      * @param page Número de página (empezando desde 0).
      * @param size Cantidad de elementos por página.
      * @return {@link PaginatedResponse} que contiene una lista de {@link PatientResponseDto} junto con
      * información de paginación como número de página, tamaño, total de páginas y total de elementos.
      */
     public PaginatedResponse<PatientResponseDto> getAllPatients(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<PatientModel> patientsPage = patientRepository.findAllActive(pageable);
-
-        List<PatientResponseDto> patientResponseDtos = patientsPage.getContent().stream()
-                .map(patient -> {
-                    PersonModel person = patient.getPerson();
-                    Optional<UserModel> userOptional = userRepository.findByPerson(person);
-
-                    PatientResponseDto.PatientResponseDtoBuilder dtoBuilder = PatientResponseDto.builder()
-                            .id(patient.getId())
-                            .name(person.getName())
-                            .lastName(person.getLastName())
-                            .phoneNumber(person.getPhoneNumber())
-                            .birthDate(person.getBirthDate())
-                            .dni(person.getDni())
-                            .email(userOptional.map(UserModel::getEmail).orElse(null))
-                            .hasInsurance(patient.isHasInsurance())
-                            .insuranceName(patient.getInsuranceName())
-                            .insurancePlan(patient.getInsurancePlan())
-                            .memberShipNumber(patient.getMemberShipNumber())
-                            .address(patient.getAddress())
-                            .tutorName(patient.getTutorName())
-                            .relationToPatient(patient.getRelationToPatient())
-                            .genre(patient.getGenre())
-                            .age(calculateAgeFromBirthDate(person.getBirthDate()));
-
-                    if (patient.getSchoolModel() != null) {
-                        dtoBuilder.schoolId(patient.getSchoolModel().getId());
-                    }
-
-                    if (patient.getProfessionals() != null) {
-                        List<Long> professionalIds = patient.getProfessionals().stream()
-                                .map(ProfessionalModel::getId)
-                                .toList();
-                        dtoBuilder.professionalIds(professionalIds);
-                    }
-
-                    return dtoBuilder.build();
-                })
-                .toList();
+        Pageable pageable = PageRequest.of(page, CursorPage.clampSize(size));
+        Page<PatientSummaryModel> patientsPage = patientSummaryRepository.findByDeletedFalse(pageable);
+
+        List<PatientResponseDto> patientResponseDtos = patientSummaryMapper.toResponseDtos(patientsPage.getContent());
 
         return new PaginatedResponse<>(
                 patientResponseDtos,
@@ -283,54 +239,52 @@ public class PatientService {
         );
     }
 
+    /**
+     * Recupera pacientes activos con paginación por cursor: cada página lee {@code size + 1} filas
+     * a partir del último id entregado, sin OFFSET ni COUNT(*) salvo que se pida el total.
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @return {@link CursorPage} con los pacientes y el cursor de la página siguiente.
+     */
+    public CursorPage<PatientResponseDto> getPatientsByCursor(String cursor, int size, CursorPage.TotalMode totalMode) {
+        int pageSize = CursorPage.clampSize(size);
+        List<PatientSummaryModel> rows = patientSummaryRepository.findByDeletedFalseAndIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "patient_summary", patientSummaryRepository::countByDeletedFalse);
+        return CursorPage.of(rows, pageSize, PatientSummaryModel::getId, patientSummaryMapper::toResponseDtos, total);
+    }
+
 
     /**
      * Recupera la información detallada de un paciente específico a partir de su ID.
-     * Este método busca al paciente en la base de datos. Si no se encuentra, lanza una excepción.
-     * También obtiene la persona asociada, el usuario (si existe), los profesionales vinculados y
-     * la escuela, si está asignada. Además, calcula la edad actual del paciente.
+     * Se sirve desde el modelo de lectura patient_summary con una búsqueda por clave primaria,
+     * que ya incluye el email del usuario, los profesionales vinculados y la escuela. La edad se
+     * calcula a partir de la fecha de nacimiento.
      * @param id ID del paciente a buscar.
      * @return {@link PatientResponseDto} con los datos completos del paciente, incluyendo su información
      * personal, detalles de seguro, profesionales vinculados, escuela (si corresponde) y edad.
      * @throws PatientNotFoundException Si no se encuentra un paciente con el ID proporcionado.
      */
     public PatientResponseDto getPatientById(Long id) {
-        var patient = patientRepository.findByIdAndDeletedFalse(id)
+        return patientSummaryRepository.findByIdAndDeletedFalse(id)
+                .map(patientSummaryMapper::toResponseDto)
                 .orElseThrow(() -> new PatientNotFoundException("Paciente no encontrado con ID: " + id));
+    }
 
-        var person = patient.getPerson();
-        var user = userRepository.findByPerson(person).orElse(null);
-
-        int currentAge = calculatorAge(patient.getId(), person.getBirthDate());
-
-        List<Long> professionalIds = patient.getProfessionals() != null
-                ? patient.getProfessionals().stream().map(ProfessionalModel::getId).toList()
-                : null;
-
-        PatientResponseDto.PatientResponseDtoBuilder dtoBuilder = PatientResponseDto.builder()
-                .id(patient.getId())
-                .name(person.getName())
-                .lastName(person.getLastName())
-                .phoneNumber(person.getPhoneNumber())
-                .birthDate(person.getBirthDate())
-                .dni(person.getDni())
-                .email(user != null ? user.getEmail() : null)
-                .insuranceName(patient.getInsuranceName())
-                .hasInsurance(patient.isHasInsurance())
-                .insurancePlan(patient.getInsurancePlan())
-                .memberShipNumber(patient.getMemberShipNumber())
-                .address(patient.getAddress())
-                .tutorName(patient.getTutorName())
-                .relationToPatient(patient.getRelationToPatient())
-                .professionalIds(professionalIds)
-                .age(currentAge)
-                .genre(patient.getGenre());
-
-        if (patient.getSchoolModel() != null) {
-            dtoBuilder.schoolId(patient.getSchoolModel().getId());
-        }
 
-        return dtoBuilder.build();
+    /**
+     * Calcula la ETag de {@link #getPatientById(Long)} leyendo solo la versión de patient_summary,
+     * que se incrementa en cada escritura que afecta al paciente. Como la edad del DTO depende de la
+     * fecha actual, la ETag incluye también el día.
+     * @param id ID del paciente.
+     * @return ETag fuerte del paciente.
+     * @throws PatientNotFoundException Si no se encuentra un paciente activo con el ID proporcionado.
+     */
+    public String getPatientETag(Long id) {
+        EntityVersion version = patientSummaryRepository.findVersionById(id)
+                .orElseThrow(() -> new PatientNotFoundException("Paciente no encontrado con ID: " + id));
+        return version.eTag("patient-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
     }
 
 
@@ -355,6 +309,7 @@ public class PatientService {
      * @throws ProfessionalNotFoundException Si uno o más profesionales especificados no existen.
      * @throws UserNotFoundException Si no se encuentra el usuario vinculado a la persona del paciente.
      */
+    @Transactional
     public PatientResponseDto updatePatient(Long id, PatientRequestDto requestDto) {
 
         var patient = patientRepository.findById(id)
@@ -387,19 +342,24 @@ public class PatientService {
             patient.setSchoolModel(null);
         }
 
-        List<Long> profIds = requestDto.getProfessionalIds();
-        if (profIds != null && !profIds.isEmpty()) {
-            List<ProfessionalModel> professionals = professionalRepository.findAllById(profIds);
-            List<Long> existingProfIds = professionals.stream().map(ProfessionalModel::getId).toList();
+        List<Long> profIds = requestDto.getProfessionalIds() != null ? requestDto.getProfessionalIds() : List.of();
+        if (!profIds.isEmpty()) {
+            List<Long> existingProfIds = professionalRepository.findAllById(profIds).stream()
+                    .map(ProfessionalModel::getId).toList();
             List<Long> nonExistingProfIds = new ArrayList<>(profIds);
             nonExistingProfIds.removeAll(existingProfIds);
             if (!nonExistingProfIds.isEmpty()) {
                 throw new ProfessionalNotFoundException("Los siguientes profesionales no fueron encontrados: " + nonExistingProfIds);
             }
-            patient.setProfessionals(professionals);
-        } else {
-            patient.setProfessionals(new ArrayList<>());
         }
+        // Solo las altas y bajas necesarias sobre professional_patient, sin reescribir la colección
+        Set<Long> desiredProfIds = new HashSet<>(profIds);
+        Set<Long> currentProfIds = new HashSet<>(professionalAssignmentRepository.findProfessionalIds(id));
+        Set<Long> removedProfIds = new HashSet<>(currentProfIds);
+        removedProfIds.removeAll(desiredProfIds);
+        desiredProfIds.removeAll(currentProfIds);
+        professionalAssignmentRepository.unassignProfessionals(id, removedProfIds);
+        professionalAssignmentRepository.assignProfessionals(id, desiredProfIds);
 
         Optional<UserModel> optionalUser = userRepository.findByPerson(person);
         UserModel user = optionalUser.orElseThrow(() -> new UserNotFoundException("Usuario no encontrado para el paciente con ID: " + id));
@@ -409,39 +369,7 @@ public class PatientService {
         patientRepository.save(patient);
         userRepository.save(user);
 
-        List<Long> professionalIds = null;
-        if (patient.getProfessionals() != null) {
-            professionalIds = patient.getProfessionals().stream()
-                    .map(prof -> prof.getId())
-                    .toList();
-        }
-
-
-        Long idPatient = patient.getId();
-        LocalDate birthDate = personRepository.findBirthDateById(id);
-
-        int currentAge= calculatorAge(idPatient, birthDate);
-
-        return PatientResponseDto.builder()
-                .id(person.getId())
-                .name(person.getName())
-                .lastName(person.getLastName())
-                .phoneNumber(person.getPhoneNumber())
-                .birthDate(person.getBirthDate())
-                .dni(person.getDni())
-                .email(user.getEmail())
-                .insuranceName(patient.getInsuranceName())
-                .hasInsurance(patient.isHasInsurance())
-                .insurancePlan(patient.getInsurancePlan())
-                .memberShipNumber(patient.getMemberShipNumber())
-                .address(patient.getAddress())
-                .tutorName(patient.getTutorName())
-                .relationToPatient(patient.getRelationToPatient())
-                .professionalIds(professionalIds)
-                .schoolId(patient.getSchoolModel() != null ? patient.getSchoolModel().getId() : null)
-                .genre(patient.getGenre())
-                .age(currentAge)
-                .build();
+        return refreshSummary(patient.getId(), ChangeEventDto.Action.UPDATED);
     }
 
 
@@ -449,8 +377,7 @@ public class PatientService {
      * Recupera la información completa de un paciente a partir de su número de DNI.
      * Este método realiza lo siguiente:
      * <ul>
-     *     <li>Busca el paciente mediante el DNI asociado a la persona.</li>
-     *     <li>Obtiene los datos personales, información médica y vínculos (escuela y profesionales).</li>
+     *     <li>Busca el paciente por DNI en el modelo de lectura patient_summary (índice sobre dni).</li>
      *     <li>Calcula la edad actual del paciente usando la fecha de nacimiento.</li>
      *     <li>Retorna un objeto {@link PatientResponseDto} con toda la información consolidada.</li>
      * </ul>
@@ -459,132 +386,58 @@ public class PatientService {
      * @throws PatientNotFoundException Si no se encuentra ningún paciente con el DNI especificado.
      */
     public PatientResponseDto getPatientByDni(String dni) {
-        var patient = patientRepository.findByPersonDniAndDeletedFalse(dni)
+        return patientSummaryRepository.findByDniAndDeletedFalse(dni)
+                .map(patientSummaryMapper::toResponseDto)
                 .orElseThrow(() -> new PatientNotFoundException("Paciente no encontrado con DNI: " + dni));
-
-        var person = patient.getPerson();
-        var user = userRepository.findByPerson(person).orElse(null);
-
-        List<Long> professionalIds = null;
-        if (patient.getProfessionals() != null) {
-            professionalIds = patient.getProfessionals().stream()
-                    .map(prof -> prof.getId())
-                    .toList();
-        }
-
-        Long schoolId = patient.getSchoolModel() != null ? patient.getSchoolModel().getId() : null;
-
-
-        Long idPatient = patient.getId();
-        LocalDate birthDate = personRepository.findBirthDateByDni(dni);
-
-        int currentAge= calculatorAge(idPatient, birthDate);
-
-        return PatientResponseDto.builder()
-                .id(patient.getId())
-                .name(person.getName())
-                .lastName(person.getLastName())
-                .phoneNumber(person.getPhoneNumber())
-                .birthDate(person.getBirthDate())
-                .dni(person.getDni())
-                .email(user != null ? user.getEmail() : null)
-                .insuranceName(patient.getInsuranceName())
-                .hasInsurance(patient.isHasInsurance())
-                .insurancePlan(patient.getInsurancePlan())
-                .memberShipNumber(patient.getMemberShipNumber())
-                .address(patient.getAddress())
-                .tutorName(patient.getTutorName())
-                .relationToPatient(patient.getRelationToPatient())
-                .professionalIds(professionalIds)
-                .genre(patient.getGenre())
-                .schoolId(schoolId)
-                .age(currentAge)
-                .build();
     }
 
 
     /**
-     * Busca y devuelve una lista de pacientes que coincidan con el nombre y apellido proporcionados.
-     * Este método:
-     * <ul>
-     *     <li>Consulta la base de datos por pacientes cuyo nombre y apellido coincidan (búsqueda personalizada).</li>
-     *     <li>Mapea cada entidad encontrada a un {@link PatientResponseDto}, incluyendo datos personales,
-     *         profesionales asignados, escuela, y edad calculada.</li>
-     * </ul>
+     * Busca pacientes por nombre y/o apellido, ignorando mayúsculas y acentos ("Gómez" coincide con "gomez")
+     * y admitiendo nombre y apellido en cualquier orden. Los resultados se ordenan por similitud,
+     * se devuelven paginados; la página negativa se trata como 0 y el tamaño se limita a [1, {@code MAX_NAME_SEARCH_PAGE_SIZE}].
      * @param name      Nombre del paciente.
      * @param lastName Apellido del paciente.
-     * @return Lista de {@link PatientResponseDto} con los pacientes encontrados.
+     * @param page     Número de página (empezando desde 0).
+     * @param size     Cantidad de elementos por página.
+     * @return {@link PaginatedResponse} con los pacientes encontrados, del más al menos relevante.
      * @throws PatientNotFoundException Si no se encuentra ningún paciente con el nombre y apellido especificados.
      */
-    public List<PatientResponseDto> getPatientsByName(String name, String lastName) {
-        List<PatientModel> patients = patientRepository.searchByFullName(name, lastName);
+    public PaginatedResponse<PatientResponseDto> getPatientsByName(String name, String lastName, int page, int size) {
+        String kw1 = TextNormalizer.normalize(name);
+        String kw2 = TextNormalizer.normalize(lastName);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(CursorPage.clampSize(size), MAX_NAME_SEARCH_PAGE_SIZE));
 
-        if (patients.isEmpty()) {
+        Page<PatientSummaryModel> resultPage = patientSummaryRepository.searchByNormalizedName(
+                kw1, kw2, TextNormalizer.normalizeName(kw1, kw2), pageable);
+
+        if (resultPage.getTotalElements() == 0) {
             throw new PatientNotFoundException("No se encontraron pacientes con el nombre: " + name);
         }
 
-        return patients.stream().map(patient -> {
-            PersonModel person = patient.getPerson();
-            var user = userRepository.findByPerson(person).orElse(null);
-
-            List<Long> professionalIds = null;
-            if (patient.getProfessionals() != null) {
-                professionalIds = patient.getProfessionals().stream()
-                        .map(prof -> prof.getId())
-                        .toList();
-            }
-
-            Long schoolId = patient.getSchoolModel() != null ? patient.getSchoolModel().getId() : null;
-
-            return PatientResponseDto.builder()
-                    .id(patient.getId())
-                    .name(person.getName())
-                    .lastName(person.getLastName())
-                    .phoneNumber(person.getPhoneNumber())
-                    .birthDate(person.getBirthDate())
-                    .dni(person.getDni())
-                    .email(user != null ? user.getEmail() : null)
-                    .insuranceName(patient.getInsuranceName())
-                    .hasInsurance(patient.isHasInsurance())
-                    .insurancePlan(patient.getInsurancePlan())
-                    .memberShipNumber(patient.getMemberShipNumber())
-                    .address(patient.getAddress())
-                    .tutorName(patient.getTutorName())
-                    .relationToPatient(patient.getRelationToPatient())
-                    .professionalIds(professionalIds)
-                    .genre(patient.getGenre())
-                    .schoolId(schoolId)
-                    .age(calculateAgeFromBirthDate(person.getBirthDate()))
-                    .build();
-        }).toList();
-    }
-
-    /**
-     * Calcula la edad actual de un paciente a partir de su fecha de nacimiento.
-     * Este método también verifica que el paciente exista en la base de datos mediante su ID.
-     * Si el paciente no existe, lanza una excepción.
-     * @param id  ID del paciente que se desea validar en la base de datos.
-     * @param age Fecha de nacimiento del paciente.
-     * @return Edad del paciente en años.
-     * @throws PatientNotFoundException Si no se encuentra un paciente con el ID proporcionado.
-     */
-    private int calculatorAge(Long id, LocalDate age){
-        personRepository.findById(id).orElseThrow(()->
-                new PatientNotFoundException("El paciente no se encuentra en la base de datos"));
-        LocalDate currentDate = LocalDate.now();
-        return Period.between(age, currentDate).getYears();
+        return new PaginatedResponse<>(
+                patientSummaryMapper.toResponseDtos(resultPage.getContent()),
+                resultPage.getNumber(),
+                resultPage.getSize(),
+                resultPage.getTotalPages(),
+                resultPage.getTotalElements()
+        );
     }
 
     /**
-     * Calcula la edad actual en años a partir de una fecha de nacimiento.
-     * Este método es utilizado en funcionalidades de listado y búsqueda, donde pueden retornar múltiples resultados.
-     * Si la fecha de nacimiento es {@code null}, retorna 0.
-     * @param birthDate Fecha de nacimiento del paciente.
-     * @return Edad del paciente en años. Retorna 0 si la fecha de nacimiento es {@code null}.
+     * Recalcula la fila de patient_summary del paciente dentro de la transacción actual y la devuelve
+     * como {@link PatientResponseDto}, de modo que la respuesta de una escritura coincide con las lecturas.
+     * También publica el cambio en el feed, que se reparte al confirmar la transacción.
+     * @param patientId ID del paciente modificado.
+     * @param action    Acción realizada sobre el paciente.
+     * @return {@link PatientResponseDto} construido desde el modelo de lectura actualizado.
      */
-    private int calculateAgeFromBirthDate(LocalDate birthDate) {
-        if (birthDate == null) return 0;
-        return Period.between(birthDate, LocalDate.now()).getYears();
+    private PatientResponseDto refreshSummary(Long patientId, ChangeEventDto.Action action) {
+        patientSummaryRepository.refresh(List.of(patientId));
+        PatientSummaryModel summary = patientSummaryRepository.findById(patientId)
+                .orElseThrow(() -> new PatientNotFoundException("Paciente no encontrado con ID: " + patientId));
+        changeFeedPublisher.publish(ChangeEventDto.EntityType.PATIENT, action, patientId, summary.getVersion(), patientId);
+        return patientSummaryMapper.toResponseDto(summary);
     }
 
     @Transactional
@@ -594,6 +447,8 @@ public class PatientService {
 
         if (!patient.isDeleted()) {
             patient.setDeleted(true);
+            patientSummaryRepository.refresh(List.of(id));
+            changeFeedPublisher.publish(ChangeEventDto.EntityType.PATIENT, ChangeEventDto.Action.DELETED, id, null, id);
         }
     }
 }
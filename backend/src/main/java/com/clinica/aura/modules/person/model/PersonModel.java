@@ -4,6 +4,7 @@ package com.clinica.aura.modules.person.model;
 
 
 
+import com.clinica.aura.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,8 @@ import java.time.LocalDate;
 @Table(name = "person")
 public class PersonModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_seq")
+    @SequenceGenerator(name = "person_seq", sequenceName = "person_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
@@ -32,5 +34,18 @@ public class PersonModel {
     private String locality;
     private String cuil;
 
+    /**
+     * Nombre y apellido normalizados (minúsculas, sin acentos) para la búsqueda por nombre.
+     * Se recalcula automáticamente al guardar; está indexado con trigramas.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "search_name")
+    private String searchName;
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchName() {
+        this.searchName = TextNormalizer.normalizeName(name, lastName);
+    }
 
 }
@@ -1,9 +1,17 @@
 package com.clinica.aura.modules.professional.controller;
 
 import com.clinica.aura.modules.patient.dto.PatientResponseDto;
+import com.clinica.aura.modules.professional.dtoRequest.PatientAssignmentRequestDto;
 import com.clinica.aura.modules.professional.dtoRequest.ProfessionalRequestUpdateDto;
+import com.clinica.aura.modules.professional.dtoResponse.CaseloadEntryDto;
+import com.clinica.aura.modules.professional.dtoResponse.PatientAssignmentResponseDto;
 import com.clinica.aura.modules.professional.dtoResponse.ProfessionalResponseDto;
+import com.clinica.aura.modules.professional.dtoResponse.ProfessionalSearchResponseDto;
+import com.clinica.aura.modules.professional.repository.CaseloadRepository;
+import com.clinica.aura.modules.professional.service.ProfessionalAssignmentService;
 import com.clinica.aura.modules.professional.service.ProfessionalService;
+import com.clinica.aura.util.CursorPage;
+import com.clinica.aura.util.PaginatedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,10 +20,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import com.clinica.aura.modules.professional.dtoRequest.ProfessionalRequestDto;
 import jakarta.validation.Valid;
 
 import java.util.List;
+
 /**
  * Controlador REST para gestionar operaciones relacionadas con profesionales.
  */
@@ -26,6 +36,7 @@ import java.util.List;
 public class ProfessionalController {
 
     private final ProfessionalService professionalService;
+    private final ProfessionalAssignmentService professionalAssignmentService;
 
     /**
      * Busca un profesional por su ID.
@@ -48,41 +59,80 @@ public class ProfessionalController {
      *
      * @param page número de página (por defecto 0)
      * @param size cantidad de elementos por página (por defecto 10)
+     * @param includePatientIds si es true, incluye los IDs de los pacientes de cada profesional
      * @return un ResponseEntity con la lista paginada de profesionales
      */
     @Operation(
             summary = "Obtener profesionales con paginación",
-            description = "Usá los parámetros 'page' y 'size' en la URL para controlar la paginación. Ejemplo: /professionals/page?page=0&size=5"
+            description = "Usá los parámetros 'page' y 'size' en la URL para controlar la paginación. Ejemplo: /professionals/page?page=0&size=5. " +
+                    "Cada profesional trae 'patientCount'; la lista 'patientIds' solo se incluye con includePatientIds=true."
     )
     @ApiResponse(responseCode = "200", description = "Listado paginado de profesionales obtenido exitosamente")
     @GetMapping()
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
     public ResponseEntity<Page<ProfessionalResponseDto>> getProfessionalsPaginated(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includePatientIds
     ) {
-        return ResponseEntity.ok(professionalService.getProfessionalsPaginated(page, size));
+        return ResponseEntity.ok(professionalService.getProfessionalsPaginated(page, size, includePatientIds));
+    }
+
+    /**
+     * Lista los profesionales con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @param includePatientIds si es true, incluye los IDs de los pacientes de cada profesional
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
+    @Operation(summary = "Obtener profesionales con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            'patientIds' solo se incluye con includePatientIds=true.
+            """)
+    public ResponseEntity<CursorPage<ProfessionalResponseDto>> getProfessionalsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total,
+            @RequestParam(defaultValue = "false") boolean includePatientIds) {
+        return ResponseEntity.ok(professionalService.getProfessionalsByCursor(cursor, size, total, includePatientIds));
     }
 
+
     /**
-     * Busca profesionales por apellido o especialidad.
+     * Busca profesionales por nombre, apellido o especialidad, con facetas por especialidad.
      *
-     * @param keyword palabra clave para buscar (puede ser parte del apellido o la especialidad)
-     * @return un ResponseEntity con la lista de profesionales que coinciden con la búsqueda
+     * @param keyword palabra clave para buscar (parte del nombre, del apellido o de la especialidad); vacía para no filtrar
+     * @param specialtyId especialidad del catálogo por la que filtrar (opcional)
+     * @param page número de página (por defecto 0)
+     * @param size cantidad de elementos por página (por defecto 10, máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param includePatientIds si es true, incluye los IDs de los pacientes de cada profesional
+     * @return un ResponseEntity con la página de profesionales y las facetas por especialidad
      */
     @Operation(
-            summary = "Buscar profesionales por apellido o especialidad",
-            description = "Busca profesionales por apellido o especialidad. Ejemplo: `/professionals/search?keyword=pediatria`"
+            summary = "Buscar profesionales por nombre, apellido o especialidad",
+            description = "Ignora mayúsculas y acentos. Devuelve resultados paginados y 'facets' con la cantidad de " +
+                    "coincidencias por especialidad (sin aplicar el filtro 'specialtyId'). " +
+                    "Ejemplo: `/professionals/search?keyword=fonoaudiologia&specialtyId=3&page=0&size=20`"
     )
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
-    public ResponseEntity<List<ProfessionalResponseDto>> searchProfessionals(@RequestParam String keyword) {
-        return ResponseEntity.ok(professionalService.searchProfessionals(keyword));
+    public ResponseEntity<ProfessionalSearchResponseDto> searchProfessionals(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(required = false) Long specialtyId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includePatientIds) {
+        return ResponseEntity.ok(professionalService.searchProfessionals(keyword, specialtyId, page, size, includePatientIds));
     }
 
 
 
-
     /**
      * Actualiza los datos de un profesional existente por su ID.
      *
@@ -118,6 +168,95 @@ public class ProfessionalController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Obtiene la cartera de pacientes de un profesional, paginada y ordenada, con la fecha del
+     * último seguimiento de cada paciente.
+     *
+     * @param id ID del profesional
+     * @param sortBy criterio de orden: LAST_NAME (por defecto), AGE o LAST_FOLLOW_UP
+     * @param direction sentido del orden: ASC (por defecto) o DESC
+     * @param page número de página (por defecto 0)
+     * @param size cantidad de elementos por página (por defecto 20, máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @return un ResponseEntity con la página de la cartera
+     */
+    @Operation(summary = "Cartera de pacientes de un profesional",
+            description = "Pacientes asignados al profesional, paginados y ordenados por apellido, edad o fecha del " +
+                    "último seguimiento. Con sortBy=LAST_FOLLOW_UP y direction=ASC aparecen primero los pacientes sin " +
+                    "seguimientos y luego los que hace más tiempo no se atienden. " +
+                    "Ejemplo: `/professionals/3/caseload?sortBy=LAST_FOLLOW_UP&direction=ASC&page=0&size=20`")
+    @ApiResponse(responseCode = "200", description = "Cartera obtenida exitosamente")
+    @ApiResponse(responseCode = "404", description = "Profesional no encontrado")
+    @GetMapping("/{id}/caseload")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
+    public ResponseEntity<PaginatedResponse<CaseloadEntryDto>> getCaseload(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "LAST_NAME") CaseloadRepository.SortBy sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(professionalService.getCaseload(id, sortBy, direction, page, size));
+    }
+
+    /**
+     * Agrega pacientes a la cartera de un profesional sin modificar el resto de sus asignaciones.
+     *
+     * @param id ID del profesional
+     * @param requestDto IDs de los pacientes a asignar
+     * @return un ResponseEntity con los pacientes efectivamente asignados
+     */
+    @Operation(summary = "Asignar pacientes a un profesional",
+            description = "Agrega los pacientes indicados a la cartera del profesional. Los que ya estaban asignados se ignoran; " +
+                    "la respuesta lista solo los que se asignaron")
+    @ApiResponse(responseCode = "200", description = "Pacientes asignados")
+    @ApiResponse(responseCode = "404", description = "Profesional o pacientes no encontrados")
+    @PostMapping("/{id}/patients")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
+    public ResponseEntity<PatientAssignmentResponseDto> assignPatients(
+            @PathVariable Long id,
+            @Valid @RequestBody PatientAssignmentRequestDto requestDto) {
+        return ResponseEntity.ok(professionalAssignmentService.assignPatients(id, requestDto.getPatientIds()));
+    }
+
+    /**
+     * Quita pacientes de la cartera de un profesional sin modificar el resto de sus asignaciones.
+     *
+     * @param id ID del profesional
+     * @param patientIds IDs de los pacientes a quitar
+     * @return un ResponseEntity con los pacientes efectivamente quitados
+     */
+    @Operation(summary = "Quitar pacientes de un profesional",
+            description = "Quita los pacientes indicados de la cartera del profesional. Ejemplo: " +
+                    "`DELETE /professionals/3/patients?patientIds=1,2`. La respuesta lista solo los que estaban asignados")
+    @ApiResponse(responseCode = "200", description = "Pacientes quitados")
+    @ApiResponse(responseCode = "404", description = "Profesional no encontrado")
+    @DeleteMapping("/{id}/patients")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL')")
+    public ResponseEntity<PatientAssignmentResponseDto> unassignPatients(
+            @PathVariable Long id,
+            @RequestParam List<Long> patientIds) {
+        return ResponseEntity.ok(professionalAssignmentService.unassignPatients(id, patientIds));
+    }
+
+    /**
+     * Traslada todos los pacientes de un profesional a otro, por ejemplo cuando el profesional deja la clínica.
+     *
+     * @param id ID del profesional de origen (puede estar eliminado)
+     * @param targetProfessionalId ID del profesional de destino
+     * @return un ResponseEntity con los pacientes trasladados
+     */
+    @Operation(summary = "Trasladar la cartera de un profesional a otro",
+            description = "Mueve todas las asignaciones del profesional de origen al de destino en una sola operación. " +
+                    "Ejemplo: `POST /professionals/3/patients/reassign?targetProfessionalId=5`")
+    @ApiResponse(responseCode = "200", description = "Pacientes trasladados")
+    @ApiResponse(responseCode = "404", description = "Profesional no encontrado")
+    @PostMapping("/{id}/patients/reassign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PatientAssignmentResponseDto> reassignAllPatients(
+            @PathVariable Long id,
+            @RequestParam Long targetProfessionalId) {
+        return ResponseEntity.ok(professionalAssignmentService.reassignAllPatients(id, targetProfessionalId));
+    }
+
     /**
      * Obtiene la lista de pacientes asignados a un profesional específico.
      *
@@ -136,5 +275,4 @@ public class ProfessionalController {
     }
 
 
-
 }
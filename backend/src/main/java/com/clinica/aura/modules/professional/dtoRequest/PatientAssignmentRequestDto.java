@@ -0,0 +1,24 @@
+package com.clinica.aura.modules.professional.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatientAssignmentRequestDto {
+
+    @NotEmpty(message = "Debe indicar al menos un paciente")
+    @Size(max = 1000, message = "No se pueden asignar más de 1000 pacientes por solicitud")
+    @Schema(description = "IDs de los pacientes a asignar", requiredMode = Schema.RequiredMode.REQUIRED, example = "[1, 2, 3]")
+    private List<@NotNull(message = "Los IDs de pacientes no pueden ser nulos") Long> patientIds;
+}
@@ -0,0 +1,53 @@
+package com.clinica.aura.modules.professional.dtoResponse;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Paciente de la cartera de un profesional, con la fecha de su último seguimiento.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CaseloadEntryDto {
+
+    @Schema(description = "ID del paciente", example = "15")
+    private Long patientId;
+
+    @Schema(description = "Nombre del paciente", example = "Ana")
+    private String name;
+
+    @Schema(description = "Apellido del paciente", example = "Gómez")
+    private String lastName;
+
+    @Schema(description = "DNI del paciente", example = "45123456")
+    private String dni;
+
+    @Schema(description = "Fecha de nacimiento del paciente", example = "2015-03-20")
+    private LocalDate birthDate;
+
+    @Schema(description = "Edad del paciente", example = "10")
+    private int age;
+
+    @Schema(description = "Teléfono del paciente", example = "123456789")
+    private String phoneNumber;
+
+    @Schema(description = "Correo del paciente", example = "paciente@example.com")
+    private String email;
+
+    /**
+     * Fecha y hora del último seguimiento del paciente, con formato yyyy-MM-dd HH:mm:ss; null si no tiene.
+     */
+    @Schema(description = "Fecha y hora del último seguimiento; null si el paciente no tiene seguimientos",
+            example = "2025-06-01 10:30:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastFollowUpAt;
+}
@@ -0,0 +1,21 @@
+package com.clinica.aura.modules.professional.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatientAssignmentResponseDto {
+
+    @Schema(description = "ID del profesional cuya cartera se modificó", example = "3")
+    private Long professionalId;
+
+    @Schema(description = "IDs de los pacientes efectivamente asignados, quitados o trasladados; " +
+            "no incluye los que ya estaban en el estado pedido", example = "[1, 2]")
+    private List<Long> changedPatientIds;
+}
@@ -53,8 +53,14 @@ public class ProfessionalResponseDto {
     @Schema(description = "Especialidad del profesional", example = "Fonoudiología")
     private String specialty;
 
+    @Schema(description = "ID de la especialidad en el catálogo", example = "1")
+    private Long specialtyId;
+
+    @Schema(description = "Cantidad de pacientes asignados al profesional", example = "3")
+    private Long patientCount;
+
     @Schema(
-            description = "Lista de IDs de los pacientes asignados al profesional",
+            description = "Lista de IDs de los pacientes asignados al profesional. En los listados solo se incluye con includePatientIds=true",
             example = "[1, 2, 3]"
     )
     private List<Long> patientIds;
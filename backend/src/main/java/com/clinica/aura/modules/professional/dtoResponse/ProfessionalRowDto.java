@@ -0,0 +1,29 @@
+package com.clinica.aura.modules.professional.dtoResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Fila del listado de profesionales, proyectada en una sola consulta (profesional, persona, correo
+ * y cantidad de pacientes asignados) sin cargar la colección de pacientes.
+ */
+@Getter
+@AllArgsConstructor
+public class ProfessionalRowDto {
+    private Long id;
+    private String email;
+    private String dni;
+    private String name;
+    private String lastName;
+    private String phoneNumber;
+    private String address;
+    private LocalDate birthDate;
+    private String locality;
+    private String cuil;
+    private String licenseNumber;
+    private String specialty;
+    private Long specialtyId;
+    private Long patientCount;
+}
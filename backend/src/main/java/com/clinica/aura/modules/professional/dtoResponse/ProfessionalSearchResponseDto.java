@@ -0,0 +1,22 @@
+package com.clinica.aura.modules.professional.dtoResponse;
+
+import com.clinica.aura.modules.specialty.dto.SpecialtyFacetDto;
+import com.clinica.aura.util.PaginatedResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfessionalSearchResponseDto {
+
+    @Schema(description = "Página de profesionales que coinciden con la búsqueda y el filtro de especialidad")
+    private PaginatedResponse<ProfessionalResponseDto> results;
+
+    @Schema(description = "Cantidad de coincidencias de la palabra clave por especialidad, sin aplicar el filtro de especialidad")
+    private List<SpecialtyFacetDto> facets;
+}
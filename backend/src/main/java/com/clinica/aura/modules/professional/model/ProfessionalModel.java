@@ -2,6 +2,7 @@ package com.clinica.aura.modules.professional.model;
 
 import com.clinica.aura.modules.patient.model.PatientModel;
 import com.clinica.aura.modules.person.model.PersonModel;
+import com.clinica.aura.modules.specialty.model.SpecialtyModel;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
@@ -33,8 +34,13 @@ public class ProfessionalModel {
     @Column(nullable = false)
     private String licenseNumber;
 
+    /** Nombre canónico de la especialidad del catálogo ({@link #specialtyModel}). */
     private String specialty;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "specialty_id")
+    private SpecialtyModel specialtyModel;
+
     @ManyToMany(targetEntity = PatientModel.class, mappedBy = "professionals", fetch = FetchType.LAZY)
     @JsonBackReference
     private List<PatientModel> patients;
@@ -0,0 +1,112 @@
+package com.clinica.aura.modules.professional.repository;
+
+import com.clinica.aura.modules.professional.dtoResponse.CaseloadEntryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cartera de pacientes de un profesional: una sola consulta sobre professional_patient unida al
+ * modelo de lectura patient_summary, con la fecha del último seguimiento de cada paciente
+ * (MAX sobre el índice de follow_up_entries por historia clínica y fecha, ver V6) y el total de
+ * la cartera como función de ventana, proyectada directamente a {@link CaseloadEntryDto}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseloadRepository {
+
+    private static final String CASELOAD_SQL = """
+            SELECT s.id, s.name, s.last_name, s.dni, s.birth_date, s.phone_number, s.email,
+                   lf.last_follow_up_at, COUNT(*) OVER () AS total
+            FROM professional_patient pp
+            JOIN patient_summary s ON s.id = pp.patient_id AND s.deleted = false
+            LEFT JOIN medical_records mr ON mr.patient_id = s.id
+            LEFT JOIN LATERAL (
+                SELECT MAX(f.created_at) AS last_follow_up_at
+                FROM follow_up_entries f
+                WHERE f.medical_record_id = mr.id
+            ) lf ON true
+            WHERE pp.professional_id = :professionalId
+            ORDER BY %s, s.id
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT COUNT(*)
+            FROM professional_patient pp
+            JOIN patient_summary s ON s.id = pp.patient_id AND s.deleted = false
+            WHERE pp.professional_id = :professionalId
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Criterio de orden de la cartera.
+     */
+    public enum SortBy {
+        /** Por apellido y nombre. */
+        LAST_NAME,
+        /** Por edad (fecha de nacimiento inversa). */
+        AGE,
+        /** Por fecha del último seguimiento; en orden ascendente primero los pacientes sin seguimientos. */
+        LAST_FOLLOW_UP
+    }
+
+    /**
+     * Página de la cartera y total de pacientes activos asignados.
+     */
+    public record CaseloadPage(List<CaseloadEntryDto> entries, long total) {
+    }
+
+    public CaseloadPage findCaseload(Long professionalId, SortBy sortBy, boolean ascending, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("professionalId", professionalId)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        List<CaseloadEntryDto> entries = new ArrayList<>(limit);
+        long[] total = {0};
+        LocalDate today = LocalDate.now();
+        namedJdbcTemplate.query(CASELOAD_SQL.formatted(orderBy(sortBy, ascending)), params, rs -> {
+            total[0] = rs.getLong("total");
+            Date birthDate = rs.getDate("birth_date");
+            Timestamp lastFollowUpAt = rs.getTimestamp("last_follow_up_at");
+            LocalDate birth = birthDate == null ? null : birthDate.toLocalDate();
+            entries.add(CaseloadEntryDto.builder()
+                    .patientId(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .lastName(rs.getString("last_name"))
+                    .dni(rs.getString("dni"))
+                    .birthDate(birth)
+                    .age(birth == null ? 0 : Period.between(birth, today).getYears())
+                    .phoneNumber(rs.getString("phone_number"))
+                    .email(rs.getString("email"))
+                    .lastFollowUpAt(lastFollowUpAt == null ? null : lastFollowUpAt.toLocalDateTime())
+                    .build());
+        });
+        if (entries.isEmpty() && offset > 0) {
+            // Página fuera de rango: la función de ventana no devolvió filas con el total
+            total[0] = namedJdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+        }
+        return new CaseloadPage(entries, total[0]);
+    }
+
+    /**
+     * Cláusula ORDER BY fija por criterio; nunca se arma con texto del cliente.
+     */
+    private static String orderBy(SortBy sortBy, boolean ascending) {
+        String direction = ascending ? "ASC" : "DESC";
+        return switch (sortBy) {
+            case LAST_NAME -> "s.last_name " + direction + " NULLS LAST, s.name " + direction + " NULLS LAST";
+            case AGE -> "s.birth_date " + (ascending ? "DESC" : "ASC") + " NULLS LAST";
+            case LAST_FOLLOW_UP -> "lf.last_follow_up_at " + direction + (ascending ? " NULLS FIRST" : " NULLS LAST");
+        };
+    }
+}
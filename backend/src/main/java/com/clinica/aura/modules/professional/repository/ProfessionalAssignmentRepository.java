@@ -0,0 +1,145 @@
+package com.clinica.aura.modules.professional.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Altas y bajas de asignaciones profesional-paciente aplicadas por conjunto sobre
+ * professional_patient, sin cargar las colecciones de ninguna de las dos entidades.
+ * Las altas usan INSERT ... ON CONFLICT DO NOTHING sobre el índice único de V9, por lo que
+ * repetir una asignación no tiene efecto. Los métodos que modifican devuelven los ids de los
+ * pacientes realmente afectados, para refrescar solo esas filas de patient_summary.
+ * Deben ejecutarse dentro de una transacción.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProfessionalAssignmentRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * @param includeDeleted si es true, también considera a los profesionales eliminados lógicamente
+     */
+    public boolean professionalExists(Long professionalId, boolean includeDeleted) {
+        String sql = includeDeleted
+                ? "SELECT EXISTS (SELECT 1 FROM professional WHERE id = :id)"
+                : "SELECT EXISTS (SELECT 1 FROM professional WHERE id = :id AND deleted = false)";
+        return Boolean.TRUE.equals(namedJdbcTemplate.queryForObject(sql, new MapSqlParameterSource("id", professionalId), Boolean.class));
+    }
+
+    /**
+     * @return los ids indicados que corresponden a pacientes activos
+     */
+    public Set<Long> findActivePatientIds(Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT id FROM patients WHERE id IN (:ids) AND deleted = false",
+                new MapSqlParameterSource("ids", patientIds), Long.class));
+    }
+
+    public List<Long> findPatientIds(Long professionalId) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT patient_id FROM professional_patient WHERE professional_id = :professionalId",
+                new MapSqlParameterSource("professionalId", professionalId), Long.class);
+    }
+
+    public List<Long> findProfessionalIds(Long patientId) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT professional_id FROM professional_patient WHERE patient_id = :patientId",
+                new MapSqlParameterSource("patientId", patientId), Long.class);
+    }
+
+    /**
+     * Asigna los pacientes activos indicados al profesional.
+     *
+     * @return ids de los pacientes que no estaban asignados y se asignaron
+     */
+    public List<Long> assign(Long professionalId, Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList("""
+                INSERT INTO professional_patient (patient_id, professional_id)
+                SELECT p.id, :professionalId FROM patients p
+                WHERE p.id IN (:patientIds) AND p.deleted = false
+                ON CONFLICT (professional_id, patient_id) DO NOTHING
+                RETURNING patient_id
+                """, new MapSqlParameterSource("professionalId", professionalId)
+                .addValue("patientIds", patientIds), Long.class);
+    }
+
+    /**
+     * Quita los pacientes indicados de la cartera del profesional.
+     *
+     * @return ids de los pacientes que estaban asignados y se quitaron
+     */
+    public List<Long> unassign(Long professionalId, Collection<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList("""
+                DELETE FROM professional_patient
+                WHERE professional_id = :professionalId AND patient_id IN (:patientIds)
+                RETURNING patient_id
+                """, new MapSqlParameterSource("professionalId", professionalId)
+                .addValue("patientIds", patientIds), Long.class);
+    }
+
+    /**
+     * Asigna los profesionales indicados a un paciente.
+     */
+    public void assignProfessionals(Long patientId, Collection<Long> professionalIds) {
+        if (professionalIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update("""
+                INSERT INTO professional_patient (patient_id, professional_id)
+                SELECT :patientId, pr.id FROM professional pr WHERE pr.id IN (:professionalIds)
+                ON CONFLICT (professional_id, patient_id) DO NOTHING
+                """, new MapSqlParameterSource("patientId", patientId)
+                .addValue("professionalIds", professionalIds));
+    }
+
+    /**
+     * Quita los profesionales indicados de un paciente.
+     */
+    public void unassignProfessionals(Long patientId, Collection<Long> professionalIds) {
+        if (professionalIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(
+                "DELETE FROM professional_patient WHERE patient_id = :patientId AND professional_id IN (:professionalIds)",
+                new MapSqlParameterSource("patientId", patientId).addValue("professionalIds", professionalIds));
+    }
+
+    /**
+     * Traslada todos los pacientes de un profesional a otro en una sola sentencia. Los pacientes
+     * que ya estaban asignados al profesional de destino conservan esa única asignación.
+     *
+     * @return ids de los pacientes que tenía asignados el profesional de origen
+     */
+    public List<Long> reassignAll(Long fromProfessionalId, Long toProfessionalId) {
+        return namedJdbcTemplate.queryForList("""
+                WITH moved AS (
+                    DELETE FROM professional_patient
+                    WHERE professional_id = :fromId
+                    RETURNING patient_id
+                ), inserted AS (
+                    INSERT INTO professional_patient (patient_id, professional_id)
+                    SELECT patient_id, :toId FROM moved
+                    ON CONFLICT (professional_id, patient_id) DO NOTHING
+                )
+                SELECT patient_id FROM moved
+                """, new MapSqlParameterSource("fromId", fromProfessionalId)
+                .addValue("toId", toProfessionalId), Long.class);
+    }
+}
@@ -1,26 +1,50 @@
 package com.clinica.aura.modules.professional.repository;
 
-import com.clinica.aura.modules.patient.model.PatientModel;
 import com.clinica.aura.modules.person.model.PersonModel;
+import com.clinica.aura.modules.professional.dtoResponse.ProfessionalRowDto;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 
 public interface ProfessionalRepository extends JpaRepository<ProfessionalModel, Long> {
 
+    /**
+     * Proyección del listado: columnas del profesional y su persona, el correo del usuario y la
+     * cantidad de pacientes asignados (subconsulta sobre professional_patient).
+     */
+    String ROW_SELECT = "SELECT new com.clinica.aura.modules.professional.dtoResponse.ProfessionalRowDto(" +
+            "p.id, u.email, per.dni, per.name, per.lastName, per.phoneNumber, per.address, per.birthDate, " +
+            "per.locality, per.cuil, p.licenseNumber, p.specialty, sp.id, " +
+            "(SELECT COUNT(pa) FROM PatientModel pa JOIN pa.professionals pr WHERE pr.id = p.id)) " +
+            "FROM ProfessionalModel p JOIN p.person per LEFT JOIN p.specialtyModel sp LEFT JOIN UserModel u ON u.person = per ";
+
     Optional<ProfessionalModel> findByIdAndDeletedFalse(Long id);
 
-    @Query("SELECT p FROM ProfessionalModel p " +
-            "WHERE LOWER(p.person.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.specialty) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<ProfessionalModel> searchByLastNameOrSpecialty(@Param("keyword") String keyword);
+    @Query(value = ROW_SELECT + "ORDER BY p.id",
+            countQuery = "SELECT COUNT(p) FROM ProfessionalModel p")
+    Page<ProfessionalRowDto> findRows(Pageable pageable);
+
+    /**
+     * Página por cursor de la proyección del listado: los profesionales con id mayor a {@code afterId}.
+     */
+    @Query(ROW_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+    List<ProfessionalRowDto> findRowsAfter(@Param("afterId") Long afterId, Limit limit);
 
-    @Query("SELECT p.patients FROM ProfessionalModel p WHERE p.id = :professionalId")
-    List<PatientModel> findPatientsByProfessionalId(@Param("professionalId") Long professionalId);
+    /**
+     * Pares (id de profesional, id de paciente) de las asignaciones de los profesionales indicados,
+     * para completar {@code patientIds} de una página en una sola consulta.
+     */
+    @Query("SELECT pr.id, pa.id FROM PatientModel pa JOIN pa.professionals pr " +
+            "WHERE pr.id IN :professionalIds ORDER BY pr.id, pa.id")
+    List<Object[]> findPatientIdPairs(@Param("professionalIds") Collection<Long> professionalIds);
 
     Optional<ProfessionalModel> findByPerson(PersonModel person);
 }
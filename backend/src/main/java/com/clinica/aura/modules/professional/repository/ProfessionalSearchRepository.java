@@ -0,0 +1,105 @@
+package com.clinica.aura.modules.professional.repository;
+
+import com.clinica.aura.modules.professional.dtoResponse.ProfessionalRowDto;
+import com.clinica.aura.modules.specialty.dto.SpecialtyFacetDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Búsqueda del directorio de profesionales: una sola consulta devuelve la página de resultados y
+ * las facetas por especialidad.
+ *
+ * Las coincidencias se buscan sobre person.search_name y specialty.normalized_name (minúsculas,
+ * sin acentos), ambas con índice de trigramas. Las facetas cuentan todas las coincidencias de la
+ * palabra clave por especialidad, sin aplicar el filtro de especialidad, para que el cliente pueda
+ * mostrar cuántos resultados tiene cada una; la página sí aplica el filtro.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProfessionalSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            WITH matches AS MATERIALIZED (
+                SELECT pr.id, pr.specialty_id
+                FROM professional pr
+                JOIN person per ON per.id = pr.id
+                LEFT JOIN specialty s ON s.id = pr.specialty_id
+                WHERE pr.deleted = false
+                  AND (:keyword = ''
+                       OR per.search_name LIKE CONCAT('%', :keyword, '%')
+                       OR s.normalized_name LIKE CONCAT('%', :keyword, '%'))
+            ),
+            page AS (
+                SELECT m.id FROM matches m
+                WHERE CAST(:specialtyId AS BIGINT) IS NULL OR m.specialty_id = :specialtyId
+                ORDER BY m.id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT 'F' AS row_type, m.specialty_id, s.name AS specialty, COUNT(*) AS total,
+                   NULL::BIGINT AS id, NULL AS email, NULL AS dni, NULL AS name, NULL AS last_name,
+                   NULL AS phone_number, NULL AS address, NULL::DATE AS birth_date, NULL AS locality,
+                   NULL AS cuil, NULL AS license_number
+            FROM matches m
+            LEFT JOIN specialty s ON s.id = m.specialty_id
+            GROUP BY m.specialty_id, s.name
+            UNION ALL
+            SELECT 'P', pr.specialty_id, pr.specialty,
+                   (SELECT COUNT(*) FROM professional_patient pp WHERE pp.professional_id = pr.id),
+                   pr.id, u.email, per.dni, per.name, per.last_name,
+                   per.phone_number, per.address, per.birth_date, per.locality,
+                   per.cuil, pr.license_number
+            FROM page
+            JOIN professional pr ON pr.id = page.id
+            JOIN person per ON per.id = pr.id
+            LEFT JOIN users u ON u.person_id = per.id
+            ORDER BY row_type, id
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Resultado de una búsqueda: la página pedida y las facetas de todas las coincidencias.
+     */
+    public record SearchResult(List<ProfessionalRowDto> rows, List<SpecialtyFacetDto> facets) {
+    }
+
+    /**
+     * @param keyword     palabra clave normalizada; vacía para no filtrar
+     * @param specialtyId especialidad por la que filtrar la página, o null
+     * @param offset      desplazamiento de la página
+     * @param limit       tamaño de la página
+     */
+    public SearchResult search(String keyword, Long specialtyId, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("specialtyId", specialtyId, Types.BIGINT)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        List<ProfessionalRowDto> rows = new ArrayList<>();
+        List<SpecialtyFacetDto> facets = new ArrayList<>();
+        namedJdbcTemplate.query(SEARCH_SQL, params, rs -> {
+            Long rowSpecialtyId = rs.getObject("specialty_id", Long.class);
+            if ("F".equals(rs.getString("row_type"))) {
+                facets.add(new SpecialtyFacetDto(rowSpecialtyId, rs.getString("specialty"), rs.getLong("total")));
+                return;
+            }
+            Date birthDate = rs.getDate("birth_date");
+            rows.add(new ProfessionalRowDto(rs.getLong("id"), rs.getString("email"), rs.getString("dni"),
+                    rs.getString("name"), rs.getString("last_name"), rs.getString("phone_number"),
+                    rs.getString("address"), birthDate == null ? null : birthDate.toLocalDate(),
+                    rs.getString("locality"), rs.getString("cuil"), rs.getString("license_number"),
+                    rs.getString("specialty"), rowSpecialtyId, rs.getLong("total")));
+        });
+        facets.sort(Comparator.comparingLong(SpecialtyFacetDto::getCount).reversed()
+                .thenComparing(SpecialtyFacetDto::getName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new SearchResult(rows, facets);
+    }
+}
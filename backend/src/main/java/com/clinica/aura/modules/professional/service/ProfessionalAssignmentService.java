@@ -0,0 +1,139 @@
+package com.clinica.aura.modules.professional.service;
+
+import com.clinica.aura.exceptions.PatientNotFoundException;
+import com.clinica.aura.exceptions.ProfessionalNotFoundException;
+import com.clinica.aura.modules.change_feed.dto.ChangeEventDto;
+import com.clinica.aura.modules.change_feed.service.ChangeFeedPublisher;
+import com.clinica.aura.modules.patient.model.PatientSummaryModel;
+import com.clinica.aura.modules.patient.repository.PatientSummaryRepository;
+import com.clinica.aura.modules.professional.dtoResponse.PatientAssignmentResponseDto;
+import com.clinica.aura.modules.professional.repository.ProfessionalAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Servicio de asignaciones entre profesionales y pacientes. Cada operación aplica solo la
+ * diferencia con sentencias por conjunto sobre professional_patient, sin cargar las colecciones
+ * de las entidades, y luego refresca patient_summary y publica el cambio de los pacientes afectados.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfessionalAssignmentService {
+
+    private final ProfessionalAssignmentRepository assignmentRepository;
+    private final PatientSummaryRepository patientSummaryRepository;
+    private final ChangeFeedPublisher changeFeedPublisher;
+
+    /**
+     * Agrega pacientes a la cartera de un profesional. Los que ya estaban asignados se ignoran.
+     *
+     * @param professionalId ID del profesional.
+     * @param patientIds IDs de los pacientes a asignar.
+     * @return los pacientes que efectivamente se asignaron.
+     * @throws ProfessionalNotFoundException si el profesional no existe o está eliminado.
+     * @throws PatientNotFoundException si alguno de los pacientes no existe o está eliminado.
+     */
+    @Transactional
+    public PatientAssignmentResponseDto assignPatients(Long professionalId, Collection<Long> patientIds) {
+        requireProfessional(professionalId, false);
+        Set<Long> requested = new LinkedHashSet<>(patientIds);
+        Set<Long> missing = new LinkedHashSet<>(requested);
+        missing.removeAll(assignmentRepository.findActivePatientIds(requested));
+        if (!missing.isEmpty()) {
+            throw new PatientNotFoundException("Los siguientes pacientes no fueron encontrados: " + missing);
+        }
+        List<Long> assigned = assignmentRepository.assign(professionalId, requested);
+        refreshPatients(assigned);
+        return new PatientAssignmentResponseDto(professionalId, assigned);
+    }
+
+    /**
+     * Quita pacientes de la cartera de un profesional. Los que no estaban asignados se ignoran.
+     *
+     * @param professionalId ID del profesional.
+     * @param patientIds IDs de los pacientes a quitar.
+     * @return los pacientes que efectivamente se quitaron.
+     * @throws ProfessionalNotFoundException si el profesional no existe.
+     */
+    @Transactional
+    public PatientAssignmentResponseDto unassignPatients(Long professionalId, Collection<Long> patientIds) {
+        requireProfessional(professionalId, true);
+        List<Long> removed = assignmentRepository.unassign(professionalId, new LinkedHashSet<>(patientIds));
+        refreshPatients(removed);
+        return new PatientAssignmentResponseDto(professionalId, removed);
+    }
+
+    /**
+     * Deja la cartera del profesional exactamente con los pacientes indicados, aplicando solo
+     * las altas y bajas necesarias.
+     *
+     * @param professionalId ID del profesional.
+     * @param patientIds IDs de los pacientes que deben quedar asignados.
+     * @throws PatientNotFoundException si alguno de los pacientes no existe o está eliminado.
+     */
+    @Transactional
+    public void replacePatients(Long professionalId, Collection<Long> patientIds) {
+        Set<Long> desired = new LinkedHashSet<>(patientIds);
+        Set<Long> missing = new LinkedHashSet<>(desired);
+        missing.removeAll(assignmentRepository.findActivePatientIds(desired));
+        if (!missing.isEmpty()) {
+            throw new PatientNotFoundException("Los siguientes pacientes no fueron encontrados: " + missing);
+        }
+        Set<Long> current = new LinkedHashSet<>(assignmentRepository.findPatientIds(professionalId));
+        Set<Long> toRemove = new LinkedHashSet<>(current);
+        toRemove.removeAll(desired);
+        desired.removeAll(current);
+
+        List<Long> changed = new ArrayList<>(assignmentRepository.unassign(professionalId, toRemove));
+        changed.addAll(assignmentRepository.assign(professionalId, desired));
+        refreshPatients(changed);
+    }
+
+    /**
+     * Traslada todos los pacientes de un profesional (por ejemplo, uno que deja la clínica) a otro,
+     * en una sola sentencia.
+     *
+     * @param fromProfessionalId ID del profesional de origen; puede estar eliminado.
+     * @param toProfessionalId ID del profesional de destino.
+     * @return los pacientes trasladados.
+     * @throws ProfessionalNotFoundException si alguno de los profesionales no existe o el de destino está eliminado.
+     */
+    @Transactional
+    public PatientAssignmentResponseDto reassignAllPatients(Long fromProfessionalId, Long toProfessionalId) {
+        requireProfessional(fromProfessionalId, true);
+        requireProfessional(toProfessionalId, false);
+        if (fromProfessionalId.equals(toProfessionalId)) {
+            return new PatientAssignmentResponseDto(toProfessionalId, List.of());
+        }
+        List<Long> moved = assignmentRepository.reassignAll(fromProfessionalId, toProfessionalId);
+        refreshPatients(moved);
+        return new PatientAssignmentResponseDto(toProfessionalId, moved);
+    }
+
+    private void requireProfessional(Long professionalId, boolean includeDeleted) {
+        if (!assignmentRepository.professionalExists(professionalId, includeDeleted)) {
+            throw new ProfessionalNotFoundException("Profesional no encontrado con ID: " + professionalId);
+        }
+    }
+
+    /**
+     * Recalcula patient_summary de los pacientes afectados y publica su actualización en el feed de cambios.
+     */
+    private void refreshPatients(List<Long> patientIds) {
+        if (patientIds.isEmpty()) {
+            return;
+        }
+        patientSummaryRepository.refresh(patientIds);
+        for (PatientSummaryModel summary : patientSummaryRepository.findAllById(patientIds)) {
+            changeFeedPublisher.publish(ChangeEventDto.EntityType.PATIENT, ChangeEventDto.Action.UPDATED,
+                    summary.getId(), summary.getVersion(), summary.getId());
+        }
+    }
+}
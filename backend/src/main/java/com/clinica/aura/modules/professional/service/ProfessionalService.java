@@ -1,37 +1,51 @@
 package com.clinica.aura.modules.professional.service;
 import com.clinica.aura.modules.patient.dto.PatientResponseDto;
 import com.clinica.aura.modules.patient.model.PatientModel;
-import com.clinica.aura.modules.patient.repository.PatientRepository;
+import com.clinica.aura.modules.patient.mapper.PatientSummaryMapper;
+import com.clinica.aura.modules.patient.repository.PatientSummaryRepository;
 import com.clinica.aura.modules.person.repository.PersonRepository;
 import com.clinica.aura.modules.professional.dtoRequest.ProfessionalRequestUpdateDto;
 import com.clinica.aura.modules.user_account.service.impl.UserDetailsServiceImpl;
 import com.clinica.aura.exceptions.*;
 import com.clinica.aura.config.jwt.JwtUtils;
+import com.clinica.aura.config.jwt.TokenRevocationStore;
+import com.clinica.aura.config.ratelimit.AuthRateLimiter;
 import com.clinica.aura.modules.person.model.PersonModel;
 import com.clinica.aura.modules.professional.dtoRequest.ProfessionalRequestDto;
 import com.clinica.aura.modules.professional.dtoResponse.ProfessionalResponseDto;
+import com.clinica.aura.modules.professional.dtoResponse.ProfessionalRowDto;
 import com.clinica.aura.modules.professional.model.ProfessionalModel;
+import com.clinica.aura.modules.professional.dtoResponse.ProfessionalSearchResponseDto;
+import com.clinica.aura.modules.professional.dtoResponse.CaseloadEntryDto;
+import com.clinica.aura.modules.professional.repository.CaseloadRepository;
 import com.clinica.aura.modules.professional.repository.ProfessionalRepository;
+import com.clinica.aura.modules.professional.repository.ProfessionalSearchRepository;
+import com.clinica.aura.modules.specialty.dto.SpecialtyFacetDto;
+import com.clinica.aura.modules.specialty.model.SpecialtyModel;
+import com.clinica.aura.modules.specialty.service.SpecialtyService;
 import com.clinica.aura.modules.user_account.Enum.EnumRole;
 import com.clinica.aura.modules.user_account.dtoResponse.AuthResponseRegisterDto;
 import com.clinica.aura.modules.user_account.models.RoleModel;
 import com.clinica.aura.modules.user_account.models.UserModel;
 import com.clinica.aura.modules.user_account.repository.RoleRepository;
 import com.clinica.aura.modules.user_account.repository.UserRepository;
+import com.clinica.aura.util.CursorPage;
+import com.clinica.aura.util.PaginatedResponse;
+import com.clinica.aura.util.TableRowEstimator;
+import com.clinica.aura.util.TextNormalizer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import com.clinica.aura.exceptions.DniAlreadyExistsException;
 
@@ -44,11 +58,19 @@ public class ProfessionalService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
+    private final AuthRateLimiter authRateLimiter;
     private final RoleRepository roleRepository;
     private final ProfessionalRepository professionalRepository;
+    private final TableRowEstimator tableRowEstimator;
     private final UserDetailsServiceImpl userDetailsService;
-    private final PatientRepository patientRepository;
+    private final PatientSummaryRepository patientSummaryRepository;
+    private final PatientSummaryMapper patientSummaryMapper;
     private final PersonRepository personRepository;
+    private final ProfessionalSearchRepository professionalSearchRepository;
+    private final CaseloadRepository caseloadRepository;
+    private final ProfessionalAssignmentService professionalAssignmentService;
+    private final SpecialtyService specialtyService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     /**
      * Crea un nuevo usuario profesional, asociando una persona, profesional y usuario en la base de datos.
@@ -66,6 +88,8 @@ public class ProfessionalService {
         String password = authCreateUserDto.getPassword();
         String dni = authCreateUserDto.getDni();
 
+        authRateLimiter.checkEmail(email);
+
         if (userRepository.findByEmail(email).isPresent()) {
             throw new EmailAlreadyExistsException("El correo " + email + " ya existe en la base de datos.");
         }
@@ -90,10 +114,13 @@ public class ProfessionalService {
                 .cuil(authCreateUserDto.getCuil())
                 .build();
 
+        SpecialtyModel specialty = specialtyService.resolve(authCreateUserDto.getSpecialty());
+
         ProfessionalModel professionalEntity = ProfessionalModel.builder()
                 .person(personEntity)
                 .licenseNumber(authCreateUserDto.getLicenseNumber())
-                .specialty(authCreateUserDto.getSpecialty())
+                .specialty(specialty != null ? specialty.getName() : null)
+                .specialtyModel(specialty)
                 .deleted(false)
                 .build();
 
@@ -108,17 +135,8 @@ public class ProfessionalService {
 
         UserModel userCreated = userRepository.save(userEntity);
 
-        List<SimpleGrantedAuthority> authoritiesList = new ArrayList<>();
-        userCreated.getRoles().forEach(role -> {
-            authoritiesList.add(new SimpleGrantedAuthority("ROLE_" + role.getEnumRole().name()));
-            role.getPermissions().forEach(permission ->
-                    authoritiesList.add(new SimpleGrantedAuthority(permission.getName())));
-        });
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userCreated.getEmail());
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, userCreated.getPassword(), authoritiesList);
-        String accessToken = jwtUtils.generateJwtToken(authentication);
+        Authentication authentication = userDetailsService.buildAuthentication(userCreated);
+        String accessToken = jwtUtils.generateJwtToken(authentication, personEntity.getId());
 
         return new AuthResponseRegisterDto(
                 userCreated.getId(),
@@ -130,7 +148,6 @@ public class ProfessionalService {
     }
 
 
-
     /**
      * Obtiene la información de un profesional a partir de su ID.
      *
@@ -152,25 +169,117 @@ public class ProfessionalService {
      *
      * @param page Número de página a obtener (comienza en 0).
      * @param size Cantidad de elementos por página.
+     * @param includePatientIds si es true, completa la lista de IDs de pacientes de cada profesional.
      * @return Página con profesionales mapeados a DTO.
      */
-    public Page<ProfessionalResponseDto> getProfessionalsPaginated(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return professionalRepository.findAll(pageable)
-                .map(this::mapToDto);
+    public Page<ProfessionalResponseDto> getProfessionalsPaginated(int page, int size, boolean includePatientIds) {
+        Pageable pageable = PageRequest.of(page, CursorPage.clampSize(size));
+        Page<ProfessionalRowDto> rows = professionalRepository.findRows(pageable);
+        Map<Long, List<Long>> patientIds = patientIdsOf(rows.getContent(), includePatientIds);
+        return rows.map(row -> mapRowToDto(row, patientIds));
     }
 
     /**
-     * Busca profesionales por apellido o especialidad utilizando una palabra clave.
+     * Obtiene los profesionales con paginación por cursor (keyset sobre el id).
      *
-     * @param keyword Término de búsqueda (apellido o especialidad).
-     * @return Lista de profesionales coincidentes en formato DTO.
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @param includePatientIds si es true, completa la lista de IDs de pacientes de cada profesional.
+     * @return Página con los registros en formato DTO y el cursor de la siguiente.
      */
-    public List<ProfessionalResponseDto> searchProfessionals(String keyword) {
-        return professionalRepository.searchByLastNameOrSpecialty(keyword)
-                .stream()
-                .map(this::mapToDto)
+    public CursorPage<ProfessionalResponseDto> getProfessionalsByCursor(String cursor, int size, CursorPage.TotalMode totalMode,
+                                                                         boolean includePatientIds) {
+        int pageSize = CursorPage.clampSize(size);
+        List<ProfessionalRowDto> rows = professionalRepository.findRowsAfter(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "professional", professionalRepository::count);
+        return CursorPage.of(rows, pageSize, ProfessionalRowDto::getId, page -> {
+            Map<Long, List<Long>> patientIds = patientIdsOf(page, includePatientIds);
+            return page.stream().map(row -> mapRowToDto(row, patientIds)).toList();
+        }, total);
+    }
+
+    /**
+     * Busca profesionales por nombre, apellido o especialidad, ignorando mayúsculas y acentos.
+     * Devuelve la página pedida junto con la cantidad de coincidencias por especialidad (facetas),
+     * calculadas en la misma consulta.
+     *
+     * @param keyword Término de búsqueda (nombre, apellido o especialidad); vacío para no filtrar.
+     * @param specialtyId Especialidad del catálogo por la que filtrar los resultados, o null.
+     * @param page Número de página (comienza en 0).
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param includePatientIds si es true, completa la lista de IDs de pacientes de cada profesional.
+     * @return Página de profesionales coincidentes y facetas por especialidad.
+     */
+    public ProfessionalSearchResponseDto searchProfessionals(String keyword, Long specialtyId, int page, int size,
+                                                             boolean includePatientIds) {
+        int pageSize = CursorPage.clampSize(size);
+        int pageNumber = Math.max(page, 0);
+        ProfessionalSearchRepository.SearchResult result = professionalSearchRepository.search(
+                TextNormalizer.normalize(keyword), specialtyId, (long) pageNumber * pageSize, pageSize);
+
+        long totalElements = result.facets().stream()
+                .filter(facet -> specialtyId == null || specialtyId.equals(facet.getSpecialtyId()))
+                .mapToLong(SpecialtyFacetDto::getCount)
+                .sum();
+        Map<Long, List<Long>> patientIds = patientIdsOf(result.rows(), includePatientIds);
+        List<ProfessionalResponseDto> content = result.rows().stream()
+                .map(row -> mapRowToDto(row, patientIds))
                 .toList();
+        PaginatedResponse<ProfessionalResponseDto> results = new PaginatedResponse<>(content, pageNumber, pageSize,
+                (int) ((totalElements + pageSize - 1) / pageSize), totalElements);
+        return new ProfessionalSearchResponseDto(results, result.facets());
+    }
+
+    /**
+     * Obtiene en una sola consulta los IDs de pacientes de los profesionales de una página.
+     *
+     * @param rows filas del listado.
+     * @param include si es false no consulta nada.
+     * @return IDs de pacientes por ID de profesional, o null si no se pidieron.
+     */
+    private Map<Long, List<Long>> patientIdsOf(List<ProfessionalRowDto> rows, boolean include) {
+        if (!include) {
+            return null;
+        }
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> professionalIds = rows.stream().map(ProfessionalRowDto::getId).toList();
+        Map<Long, List<Long>> patientIds = new HashMap<>();
+        for (Object[] pair : professionalRepository.findPatientIdPairs(professionalIds)) {
+            patientIds.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Long) pair[1]);
+        }
+        return patientIds;
+    }
+
+    /**
+     * Mapea una fila del listado a DTO. {@code patientIds} queda en null si no se pidió.
+     *
+     * @param row Fila proyectada del listado.
+     * @param patientIds IDs de pacientes por profesional, o null si no se pidieron.
+     * @return DTO correspondiente.
+     */
+    private ProfessionalResponseDto mapRowToDto(ProfessionalRowDto row, Map<Long, List<Long>> patientIds) {
+        List<Long> ids = patientIds == null ? null : patientIds.getOrDefault(row.getId(), Collections.emptyList());
+        return ProfessionalResponseDto.builder()
+                .id(row.getId())
+                .email(row.getEmail())
+                .dni(row.getDni())
+                .name(row.getName())
+                .lastName(row.getLastName())
+                .phoneNumber(row.getPhoneNumber())
+                .address(row.getAddress())
+                .birthDate(row.getBirthDate())
+                .locality(row.getLocality())
+                .cuil(row.getCuil())
+                .licenseNumber(row.getLicenseNumber())
+                .specialty(row.getSpecialty())
+                .specialtyId(row.getSpecialtyId())
+                .patientCount(row.getPatientCount())
+                .patientIds(ids)
+                .build();
     }
 
     /**
@@ -201,20 +310,25 @@ public class ProfessionalService {
                 .cuil(person.getCuil())
                 .licenseNumber(professional.getLicenseNumber())
                 .specialty(professional.getSpecialty())
+                .specialtyId(professional.getSpecialtyModel() != null ? professional.getSpecialtyModel().getId() : null)
+                .patientCount((long) patientIds.size())
                 .patientIds(patientIds)
                 .build();
     }
 
 
-
     /**
      * Actualiza la información de un profesional existente, incluyendo sus datos personales y pacientes asociados.
+     * Si se envía {@code patientIds}, la cartera queda exactamente con esos pacientes, aplicando solo las
+     * altas y bajas necesarias; si no se envía, la cartera no se modifica.
      *
      * @param id ID del profesional a actualizar.
      * @param dto DTO con los datos actualizados.
      * @return DTO actualizado del profesional.
      * @throws ProfessionalNotFoundException si no se encuentra el profesional.
+     * @throws PatientNotFoundException si alguno de los pacientes indicados no existe.
      */
+    @Transactional
     public ProfessionalResponseDto updateProfessional(Long id, @Valid ProfessionalRequestUpdateDto dto) {
         ProfessionalModel existing = professionalRepository.findById(id)
                 .orElseThrow(() -> new ProfessionalNotFoundException("Profesional no encontrado con ID: " + id));
@@ -232,69 +346,74 @@ public class ProfessionalService {
         person.setCuil(dto.getCuil());
 
         existing.setLicenseNumber(dto.getLicenseNumber());
-        existing.setSpecialty(dto.getSpecialty());
+        SpecialtyModel specialty = specialtyService.resolve(dto.getSpecialty());
+        existing.setSpecialty(specialty != null ? specialty.getName() : null);
+        existing.setSpecialtyModel(specialty);
 
-        List<PatientModel> patients = dto.getPatientIds() != null
-                ? patientRepository.findAllById(dto.getPatientIds())
-                : Collections.emptyList();
-
-        existing.setPatients(patients);
-
-        ProfessionalModel updated = professionalRepository.save(existing);
-        return mapToDto(updated);
+        professionalRepository.save(existing);
+        if (dto.getPatientIds() != null) {
+            professionalAssignmentService.replacePatients(id, dto.getPatientIds());
+        }
+        return mapToDto(professionalRepository.findById(id)
+                .orElseThrow(() -> new ProfessionalNotFoundException("Profesional no encontrado con ID: " + id)));
     }
 
 
 
-
     /**
      * Elimina lógicamente a un profesional (soft delete) y elimina su persona asociada.
+     * Revoca además todos los tokens de su usuario, ya que las operaciones autenticadas con el claim
+     * professional_id no vuelven a consultar si el profesional sigue activo.
      *
      * @param id ID del profesional a eliminar.
      * @throws ProfessionalNotFoundException si no se encuentra el profesional.
      */
+    @Transactional
     public void deleteProfessional(Long id) {
         ProfessionalModel professional = professionalRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ProfessionalNotFoundException("Profesional no encontrado con ID: " + id));
+        userRepository.findByPersonId(professional.getPerson().getId())
+                .ifPresent(user -> tokenRevocationStore.revokeAllForSubject(user.getEmail()));
         personRepository.deleteById(professional.getPerson().getId());
         professional.setDeleted(true);
         professionalRepository.save(professional);
+        patientSummaryRepository.refreshByProfessional(id);
     }
     /**
-     * Obtiene todos los pacientes asociados a un profesional específico.
+     * Obtiene la cartera de pacientes de un profesional, paginada y ordenada, con la fecha del
+     * último seguimiento de cada paciente, en una sola consulta.
+     *
+     * @param professionalId ID del profesional.
+     * @param sortBy Criterio de orden (apellido, edad o último seguimiento).
+     * @param direction Sentido del orden.
+     * @param page Número de página (comienza en 0).
+     * @param size Cantidad de elementos por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @return Página de la cartera del profesional.
+     * @throws ProfessionalNotFoundException si no se encuentra el profesional.
+     */
+    @Transactional(readOnly = true)
+    public PaginatedResponse<CaseloadEntryDto> getCaseload(Long professionalId, CaseloadRepository.SortBy sortBy,
+                                                           Sort.Direction direction, int page, int size) {
+        if (!professionalRepository.existsById(professionalId)) {
+            throw new ProfessionalNotFoundException("Profesional con ID " + professionalId + " no encontrado.");
+        }
+        int pageSize = CursorPage.clampSize(size);
+        int pageNumber = Math.max(page, 0);
+        CaseloadRepository.CaseloadPage caseload = caseloadRepository.findCaseload(
+                professionalId, sortBy, direction.isAscending(), (long) pageNumber * pageSize, pageSize);
+        return new PaginatedResponse<>(caseload.entries(), pageNumber, pageSize,
+                (int) ((caseload.total() + pageSize - 1) / pageSize), caseload.total());
+    }
+
+    /**
+     * Obtiene todos los pacientes asociados a un profesional específico desde el modelo de lectura
+     * patient_summary (índice sobre los ids de profesionales).
      *
      * @param professionalId ID del profesional.
      * @return Lista de pacientes asociados al profesional.
      */
     @Transactional(readOnly = true)
     public List<PatientResponseDto> getPatientsByProfessionalId(Long professionalId) {
-        List<PatientModel> patients = professionalRepository.findPatientsByProfessionalId(professionalId);
-            return patients.stream().map(patient -> {
-                PersonModel person = patient.getPerson();
-
-                return PatientResponseDto.builder()
-                        .id(patient.getId())
-                        .name(person != null ? person.getName() : null)
-                        .lastName(person != null ? person.getLastName() : null)
-                        .dni(person != null ? person.getDni() : null)
-                        .phoneNumber(person != null ? person.getPhoneNumber() : null)
-                        .birthDate(person != null ? person.getBirthDate() : null)
-                        .email(null)
-                        .hasInsurance(patient.isHasInsurance())
-                        .insuranceName(patient.getInsuranceName())
-                        .address(patient.getAddress())
-                        .tutorName(patient.getTutorName())
-                        .relationToPatient(patient.getRelationToPatient())
-                        .genre(patient.getGenre())
-                        .memberShipNumber(patient.getMemberShipNumber())
-                        .insurancePlan(patient.getInsurancePlan())
-                        .schoolId(patient.getSchoolModel() != null ? patient.getSchoolModel().getId() : null)
-                        .professionalIds(patient.getProfessionals() != null
-                                ? patient.getProfessionals().stream()
-                                .map(ProfessionalModel::getId)
-                                .toList()
-                                : Collections.emptyList())
-                        .build();
-            }).toList();
-        }
+        return patientSummaryMapper.toResponseDtos(patientSummaryRepository.findByProfessionalId(professionalId));
+    }
 }
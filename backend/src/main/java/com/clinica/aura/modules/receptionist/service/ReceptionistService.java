@@ -1,6 +1,7 @@
 package com.clinica.aura.modules.receptionist.service;
 
 import com.clinica.aura.config.jwt.JwtUtils;
+import com.clinica.aura.config.ratelimit.AuthRateLimiter;
 import com.clinica.aura.exceptions.DniAlreadyExistsException;
 import com.clinica.aura.modules.person.model.PersonModel;
 import com.clinica.aura.modules.person.repository.PersonRepository;
@@ -25,16 +26,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -49,6 +46,7 @@ public class ReceptionistService {
     private final PasswordEncoder passwordEncoder;
     private final ReceptionistMapper receptionistMapper;
     private final JwtUtils jwtUtils;
+    private final AuthRateLimiter authRateLimiter;
     private final UserDetailsServiceImpl userDetailsService;
     private final PersonRepository personRepository;
 
@@ -66,6 +64,8 @@ public class ReceptionistService {
         String cuil = authCreateUserDto.getCuil();
         LocalDate birthDate = authCreateUserDto.getBirthDate();
 
+        authRateLimiter.checkEmail(email);
+
         UserModel emailExists = userRepository.findByEmail(email).orElse(null);
         if (emailExists != null) {
             throw new EmailAlreadyExistsException("El correo " + email + " ya existe en la base de datos.");
@@ -110,18 +110,7 @@ public class ReceptionistService {
 
         UserModel userCreated = userRepository.save(userEntity);
 
-        List<SimpleGrantedAuthority> authoritiesList = new ArrayList<>();
-
-        userCreated.getRoles().forEach(role ->
-                authoritiesList.add(new SimpleGrantedAuthority("ROLE_".concat(role.getEnumRole().name())))
-        );
-
-        userCreated.getRoles().stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .forEach(permission -> authoritiesList.add(new SimpleGrantedAuthority(permission.getName())));
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userCreated.getEmail());
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, userCreated.getPassword(), authoritiesList);
+        Authentication authentication = userDetailsService.buildAuthentication(userCreated);
         String accessToken = jwtUtils.generateJwtToken(authentication);
 
         return new AuthResponseRegisterDto(
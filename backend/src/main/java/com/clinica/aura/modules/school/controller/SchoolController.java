@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import com.clinica.aura.util.CursorPage;
 
 @RestController
 @RequestMapping("/schools")
@@ -56,6 +57,27 @@ public class SchoolController {
         return schoolService.getAllSchools(page, size);
     }
 
+    /**
+     * Lista las escuelas con paginación por cursor (keyset sobre el id).
+     * A diferencia de la paginación por número de página, el costo no crece con la profundidad.
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera página)
+     * @param size   cantidad de registros por página (máximo {@value CursorPage#MAX_PAGE_SIZE})
+     * @param total  cálculo del total: NONE (por defecto), EXACT o ESTIMATED
+     * @return página con los registros y el cursor de la siguiente
+     */
+    @GetMapping("/schools/cursor")
+    @Operation(summary = "Listar escuelas con paginación por cursor", description = """
+            Paginación por cursor. La primera página se pide sin 'cursor'; las siguientes reenviando el
+            'nextCursor' recibido. 'size' se limita a 100. 'total' permite NONE (por defecto, sin conteo),
+            EXACT (conteo exacto) o ESTIMATED (estimación de las estadísticas de la base de datos).
+            """)
+    public ResponseEntity<CursorPage<SchoolResponseDto>> listSchoolsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        return ResponseEntity.ok(schoolService.getSchoolsByCursor(cursor, size, total));
+    }
+
 
     /**
      * Actualiza los datos de una escuela existente.
@@ -24,7 +24,8 @@ import lombok.*;
 @Table(name = "schools")
 public class SchoolModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schools_seq")
+    @SequenceGenerator(name = "schools_seq", sequenceName = "schools_seq", allocationSize = 50)
     private Long id;
 
     @Column(name =" school_name")
@@ -5,6 +5,8 @@ import com.clinica.aura.modules.school.model.SchoolModel;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import java.util.List;
 
 public interface SchoolRepository extends JpaRepository<SchoolModel, Long>{
     /**
@@ -16,4 +18,9 @@ public interface SchoolRepository extends JpaRepository<SchoolModel, Long>{
      */
     Optional<SchoolModel> findByEmailSchool(String emailSchool);
 
+    /**
+     * Página por cursor: escuelas con id mayor a {@code afterId}, en orden de id.
+     */
+    List<SchoolModel> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
 }
@@ -8,10 +8,13 @@ import com.clinica.aura.modules.school.dto.SchoolRequestDtoUpdate;
 import com.clinica.aura.modules.school.dto.SchoolResponseDto;
 import com.clinica.aura.modules.school.model.SchoolModel;
 import com.clinica.aura.modules.school.repository.SchoolRepository;
+import com.clinica.aura.util.CursorPage;
 import com.clinica.aura.util.PaginatedResponse;
+import com.clinica.aura.util.TableRowEstimator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +31,7 @@ public class SchoolService {
     PatientRepository patientRepository;
 
     private final SchoolRepository schoolRepository;
+    private final TableRowEstimator tableRowEstimator;
 
     /**
      * Registra una nueva escuela en el sistema.
@@ -84,16 +88,11 @@ public class SchoolService {
      *         </ul>
      */
     public PaginatedResponse<SchoolResponseDto> getAllSchools(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, CursorPage.clampSize(size));
         Page<SchoolModel> schoolsPage = schoolRepository.findAll(pageable);
 
         List<SchoolResponseDto> schoolResponseDtos = schoolsPage.getContent().stream()
-                .map(school -> SchoolResponseDto.builder()
-                        .id(school.getId())
-                        .schoolName(school.getSchoolName())
-                        .emailSchool(school.getEmailSchool())
-                        .phoneSchool(school.getPhoneSchool())
-                        .build())
+                .map(this::mapToDto)
                 .toList();
 
         return new PaginatedResponse<>(
@@ -105,6 +104,31 @@ public class SchoolService {
         );
     }
 
+    /**
+     * Obtiene las escuelas con paginación por cursor (keyset sobre el id).
+     * @param cursor Cursor de la página anterior, o null para la primera.
+     * @param size Cantidad de registros por página (se limita a {@link CursorPage#MAX_PAGE_SIZE}).
+     * @param totalMode Cálculo del total de elementos.
+     * @return Un {@link CursorPage} con las escuelas y el cursor de la página siguiente.
+     */
+    public CursorPage<SchoolResponseDto> getSchoolsByCursor(String cursor, int size, CursorPage.TotalMode totalMode) {
+        int pageSize = CursorPage.clampSize(size);
+        List<SchoolModel> schools = schoolRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        Long total = tableRowEstimator.total(totalMode, "schools", schoolRepository::count);
+        return CursorPage.of(schools, pageSize, SchoolModel::getId,
+                rows -> rows.stream().map(this::mapToDto).toList(), total);
+    }
+
+    private SchoolResponseDto mapToDto(SchoolModel school) {
+        return SchoolResponseDto.builder()
+                .id(school.getId())
+                .schoolName(school.getSchoolName())
+                .emailSchool(school.getEmailSchool())
+                .phoneSchool(school.getPhoneSchool())
+                .build();
+    }
+
 
     /**
      * Actualiza los datos de una escuela existente en el sistema.
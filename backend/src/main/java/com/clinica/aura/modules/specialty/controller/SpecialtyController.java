@@ -0,0 +1,35 @@
+package com.clinica.aura.modules.specialty.controller;
+
+import com.clinica.aura.modules.specialty.dto.SpecialtyResponseDto;
+import com.clinica.aura.modules.specialty.service.SpecialtyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/specialties")
+@RequiredArgsConstructor
+@Tag(name = "Specialty", description = "Catálogo de especialidades de los profesionales")
+@PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSIONAL') or hasRole('RECEPTIONIST')")
+public class SpecialtyController {
+
+    private final SpecialtyService specialtyService;
+
+    /**
+     * Lista el catálogo de especialidades.
+     * @return las especialidades ordenadas por nombre
+     */
+    @GetMapping
+    @Operation(summary = "Listar especialidades", description = "Devuelve el catálogo de especialidades, ordenado por nombre. " +
+            "Sus IDs sirven para filtrar la búsqueda de profesionales (/professionals/search?specialtyId=)")
+    public ResponseEntity<List<SpecialtyResponseDto>> getAll() {
+        return ResponseEntity.ok(specialtyService.getAll());
+    }
+}
@@ -0,0 +1,21 @@
+package com.clinica.aura.modules.specialty.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpecialtyFacetDto {
+
+    @Schema(description = "ID de la especialidad; null para los profesionales sin especialidad", example = "1")
+    private Long specialtyId;
+
+    @Schema(description = "Nombre de la especialidad", example = "Fonoaudiología")
+    private String name;
+
+    @Schema(description = "Cantidad de profesionales que coinciden con la búsqueda en esta especialidad", example = "12")
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.clinica.aura.modules.specialty.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpecialtyResponseDto {
+
+    @Schema(description = "ID de la especialidad", example = "1")
+    private Long id;
+
+    @Schema(description = "Nombre de la especialidad", example = "Fonoaudiología")
+    private String name;
+}
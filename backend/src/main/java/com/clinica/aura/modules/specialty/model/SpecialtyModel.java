@@ -0,0 +1,30 @@
+package com.clinica.aura.modules.specialty.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entrada del catálogo de especialidades de los profesionales.
+ * Atributos principales:
+ * - name: nombre para mostrar (el primero con el que se registró la especialidad).
+ * - normalizedName: nombre en minúsculas y sin acentos, único; identifica la especialidad.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "specialty")
+public class SpecialtyModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "specialty_seq")
+    @SequenceGenerator(name = "specialty_seq", sequenceName = "specialty_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false, unique = true)
+    private String normalizedName;
+}
@@ -0,0 +1,30 @@
+package com.clinica.aura.modules.specialty.repository;
+
+import com.clinica.aura.modules.specialty.model.SpecialtyModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SpecialtyRepository extends JpaRepository<SpecialtyModel, Long> {
+
+    Optional<SpecialtyModel> findByNormalizedName(String normalizedName);
+
+    List<SpecialtyModel> findAllByOrderByNameAsc();
+
+    /**
+     * Agrega la especialidad al catálogo si no existe. Con ON CONFLICT dos altas concurrentes de
+     * la misma especialidad no fallan: la segunda no hace nada y luego lee la entrada existente.
+     * El id se toma directo de la secuencia, que es compatible con los bloques del optimizador pooled.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO specialty (id, name, normalized_name)
+            VALUES (nextval('specialty_seq'), :name, :normalizedName)
+            ON CONFLICT (normalized_name) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
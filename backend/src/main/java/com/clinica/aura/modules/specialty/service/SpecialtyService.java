@@ -0,0 +1,52 @@
+package com.clinica.aura.modules.specialty.service;
+
+import com.clinica.aura.modules.specialty.dto.SpecialtyResponseDto;
+import com.clinica.aura.modules.specialty.model.SpecialtyModel;
+import com.clinica.aura.modules.specialty.repository.SpecialtyRepository;
+import com.clinica.aura.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Servicio del catálogo de especialidades. Las especialidades se identifican por su nombre
+ * normalizado, de modo que "Fonoaudiología" y "fonoaudiologia" son la misma entrada.
+ */
+@Service
+@RequiredArgsConstructor
+public class SpecialtyService {
+
+    private final SpecialtyRepository specialtyRepository;
+
+    /**
+     * Obtiene la entrada del catálogo para el nombre indicado, creándola si no existe.
+     *
+     * @param name nombre de la especialidad tal como se ingresó
+     * @return la especialidad del catálogo, o null si el nombre es null o está en blanco
+     */
+    @Transactional
+    public SpecialtyModel resolve(String name) {
+        String normalizedName = TextNormalizer.normalize(name);
+        if (normalizedName.isEmpty()) {
+            return null;
+        }
+        return specialtyRepository.findByNormalizedName(normalizedName).orElseGet(() -> {
+            specialtyRepository.insertIfAbsent(name.trim(), normalizedName);
+            return specialtyRepository.findByNormalizedName(normalizedName).orElseThrow();
+        });
+    }
+
+    /**
+     * Lista el catálogo de especialidades ordenado por nombre.
+     *
+     * @return las especialidades registradas
+     */
+    @Transactional(readOnly = true)
+    public List<SpecialtyResponseDto> getAll() {
+        return specialtyRepository.findAllByOrderByNameAsc().stream()
+                .map(specialty -> new SpecialtyResponseDto(specialty.getId(), specialty.getName()))
+                .toList();
+    }
+}
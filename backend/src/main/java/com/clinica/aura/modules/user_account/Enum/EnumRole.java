@@ -1,8 +1,30 @@
 package com.clinica.aura.modules.user_account.Enum;
 
 public enum EnumRole {
-    ADMIN,
-    RECEPTIONIST,
-    PROFESSIONAL,
-    PATIENT
+    ADMIN("A"),
+    RECEPTIONIST("R"),
+    PROFESSIONAL("P"),
+    PATIENT("T");
+
+    /**
+     * Código corto usado en el perfil compacto de claims del JWT.
+     */
+    private final String code;
+
+    EnumRole(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static EnumRole fromCode(String code) {
+        for (EnumRole role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("Código de rol desconocido: " + code);
+    }
 }
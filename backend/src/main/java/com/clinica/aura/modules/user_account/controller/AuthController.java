@@ -147,8 +147,9 @@ public class AuthController {
     }
 
     /**
-     * Cierra la sesión del usuario actual.
+     * Cierra la sesión del usuario actual y revoca su token.
      *
+     * @param jwtToken el token JWT de la cookie de sesión
      * @param servletResponse la respuesta HTTP
      * @return un ResponseEntity que indica que la sesión se ha cerrado correctamente
      */
@@ -157,7 +158,9 @@ public class AuthController {
             """)
     @PostMapping("/logout")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> logout(HttpServletResponse servletResponse) {
+    public ResponseEntity<?> logout(@CookieValue(name = "jwt_token", required = false) String jwtToken,
+                                    HttpServletResponse servletResponse) {
+        userDetailsService.logoutUser(jwtToken);
         ResponseCookie cookie = ResponseCookie.from("jwt_token", "")
                 .httpOnly(true)
                 .secure(true)
@@ -1,16 +1,22 @@
 package com.clinica.aura.modules.user_account.controller;
 
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
 import com.clinica.aura.modules.user_account.dtoResponse.UserResponseDto;
+import com.clinica.aura.modules.user_account.service.impl.RolePermissionSnapshot;
 import com.clinica.aura.modules.user_account.service.impl.UserDetailsServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/user")
@@ -19,9 +25,24 @@ import java.util.List;
 public class UserController {
 
     private final UserDetailsServiceImpl userDetailsService;
+    private final RolePermissionSnapshot rolePermissionSnapshot;
 
     @GetMapping("/all_admin")
     public ResponseEntity<List<UserResponseDto>> getUserById() {
         return ResponseEntity.ok(userDetailsService.getUsersByRoleAdmin());
     }
+
+    /**
+     * Recarga en memoria la relación rol → permisos sin reiniciar la aplicación.
+     *
+     * @return los permisos vigentes de cada rol
+     */
+    @Operation(summary = "Recargar permisos por rol", description = """
+            Vuelve a leer de la base de datos los permisos asignados a cada rol. Solo el ADMIN puede ejecutarlo.
+            """)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/roles/reload")
+    public ResponseEntity<Map<EnumRole, List<String>>> reloadRolePermissions() {
+        return ResponseEntity.ok(rolePermissionSnapshot.reload());
+    }
 }
@@ -12,7 +12,8 @@ import lombok.*;
 @Table(name = "permission")
 public class PermissionModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permission_seq")
+    @SequenceGenerator(name = "permission_seq", sequenceName = "permission_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false)
@@ -0,0 +1,39 @@
+package com.clinica.aura.modules.user_account.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Revocación persistida de tokens JWT.
+ *
+ * Si {@code jti} tiene valor, se revoca únicamente ese token. Si es nulo, se revocan todos los tokens
+ * del {@code subject} emitidos hasta {@code revokedAt} (por ejemplo, al suspender al usuario).
+ * La fila deja de ser necesaria a partir de {@code expiresAt}.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "revoked_tokens")
+public class RevokedTokenModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revoked_tokens_seq")
+    @SequenceGenerator(name = "revoked_tokens_seq", sequenceName = "revoked_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(unique = true)
+    private String jti;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -17,14 +17,15 @@ import java.util.Set;
 public class RoleModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_seq")
+    @SequenceGenerator(name = "roles_seq", sequenceName = "roles_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "role_name")
     @Enumerated(EnumType.STRING)
     private EnumRole enumRole;
 
-    @ManyToMany(fetch = FetchType.EAGER , targetEntity = PermissionModel.class)
+    @ManyToMany(fetch = FetchType.LAZY, targetEntity = PermissionModel.class)
     @JoinTable(name = "role_permission",
             joinColumns = @JoinColumn(name = "role_id"),
             inverseJoinColumns = @JoinColumn(name = "permission_id"))
@@ -0,0 +1,24 @@
+package com.clinica.aura.modules.user_account.repository;
+
+import com.clinica.aura.modules.user_account.models.RevokedTokenModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenModel, Long> {
+    List<RevokedTokenModel> findAllByExpiresAtAfter(Instant now);
+
+    List<RevokedTokenModel> findAllByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    boolean existsByJti(String jti);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenModel r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
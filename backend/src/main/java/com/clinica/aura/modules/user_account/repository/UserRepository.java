@@ -4,6 +4,10 @@ import com.clinica.aura.modules.person.model.PersonModel;
 import com.clinica.aura.modules.user_account.Enum.EnumRole;
 import com.clinica.aura.modules.user_account.models.UserModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
@@ -13,10 +17,27 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<UserModel, Long> {
     Optional<UserModel> findByEmail(String email);
 
+    /**
+     * Obtiene el usuario junto con sus roles en una única consulta.
+     * Se utiliza en el login para evitar cargas perezosas adicionales; los permisos
+     * de cada rol se toman de {@code RolePermissionSnapshot}.
+     */
+    @Query("SELECT DISTINCT u FROM UserModel u " +
+            "LEFT JOIN FETCH u.roles " +
+            "WHERE u.email = :email")
+    Optional<UserModel> findByEmailWithRoles(@Param("email") String email);
+
     Optional<UserModel> findByPerson(PersonModel person);
     Optional<UserModel> findByPersonId(Long personId);
 
     List<UserModel> findAllBySuspensionEndBefore(LocalDateTime now);
 
+    List<UserModel> findAllBySuspensionEndAfter(LocalDateTime now);
+
     List<UserModel> findUsersByRolesEnumRole(EnumRole enumRole);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserModel u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,146 @@
+package com.clinica.aura.modules.user_account.service.impl;
+
+import com.clinica.aura.modules.user_account.Enum.EnumRole;
+import com.clinica.aura.modules.user_account.models.PermissionModel;
+import com.clinica.aura.modules.user_account.models.RoleModel;
+import com.clinica.aura.modules.user_account.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Copia inmutable en memoria de la relación rol → permisos.
+ *
+ * Los permisos de cada rol casi nunca cambian (se cargan en {@code CommandInitializerConfig}),
+ * por lo que las autoridades se calculan a partir de esta copia en lugar de consultar
+ * role_permission y permission en cada login. La copia se construye al iniciar la aplicación
+ * y se reemplaza de forma atómica con {@link #reload()}: permisos y versión viajan juntos en un único
+ * {@link Snapshot} inmutable, de modo que quien lo lee una vez nunca combina la versión nueva con los
+ * permisos anteriores.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RolePermissionSnapshot {
+
+    private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Relación rol → nombres de permisos junto con la versión derivada de ese contenido.
+     */
+    public record Snapshot(Map<EnumRole, List<String>> permissions, long version) {
+    }
+
+    /**
+     * Evento publicado tras cada {@link #reload()}, con la versión que quedó vigente.
+     */
+    public record Reloaded(long version) {
+    }
+
+    /**
+     * Construye la copia una vez finalizado el arranque, cuando los roles ya fueron inicializados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Vuelve a leer roles y permisos de la base de datos, reemplaza la copia actual y publica
+     * {@link Reloaded} para que se descarten los datos derivados de versiones anteriores.
+     *
+     * @return la nueva relación rol → nombres de permisos
+     */
+    @Transactional(readOnly = true)
+    public Map<EnumRole, List<String>> reload() {
+        Map<EnumRole, List<String>> reloaded = new EnumMap<>(EnumRole.class);
+        for (RoleModel role : roleRepository.findAllWithPermissions()) {
+            reloaded.put(role.getEnumRole(), role.getPermissions().stream()
+                    .map(PermissionModel::getName)
+                    .sorted()
+                    .toList());
+        }
+        Snapshot loaded = new Snapshot(Map.copyOf(reloaded), computeVersion(reloaded));
+        snapshot = loaded;
+        log.info("Permisos por rol cargados (versión {}): {}", loaded.version(), loaded.permissions());
+        applicationEventPublisher.publishEvent(new Reloaded(loaded.version()));
+        return loaded.permissions();
+    }
+
+    /**
+     * Copia vigente. Quien necesite la versión y los permisos debe leerla una sola vez y usar
+     * esa misma instancia para ambos.
+     *
+     * @return la copia vigente, cargándola si todavía no existe
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * Versión del conjunto de permisos. Se deriva del contenido, por lo que es la misma
+     * en todas las instancias que tengan los mismos permisos cargados.
+     *
+     * @return la versión de la copia vigente
+     */
+    public long getVersion() {
+        return current().version();
+    }
+
+    private long computeVersion(Map<EnumRole, List<String>> snapshot) {
+        CRC32 crc = new CRC32();
+        snapshot.forEach((role, permissions) ->
+                crc.update((role.name() + "=" + String.join(",", permissions) + ";").getBytes(StandardCharsets.UTF_8)));
+        return crc.getValue();
+    }
+
+    /**
+     * Calcula las autoridades de un usuario a partir de sus roles: primero ROLE_x por cada rol
+     * y luego los permisos de cada uno.
+     *
+     * @param roles los roles del usuario
+     * @return la lista de autoridades
+     */
+    public List<GrantedAuthority> authoritiesFor(Collection<EnumRole> roles) {
+        return authoritiesFor(current(), roles);
+    }
+
+    /**
+     * Igual que {@link #authoritiesFor(Collection)}, pero expandiendo contra la copia indicada.
+     *
+     * @param snapshot la copia leída por quien llama
+     * @param roles    los roles del usuario
+     * @return la lista de autoridades
+     */
+    public List<GrantedAuthority> authoritiesFor(Snapshot snapshot, Collection<EnumRole> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_".concat(role.name()))));
+        for (EnumRole role : roles) {
+            snapshot.permissions().getOrDefault(role, List.of())
+                    .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
+        }
+        return authorities;
+    }
+}
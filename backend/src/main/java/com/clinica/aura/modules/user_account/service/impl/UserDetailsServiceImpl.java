@@ -1,8 +1,13 @@
 package com.clinica.aura.modules.user_account.service.impl;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.clinica.aura.config.jwt.JwtUtils;
+import com.clinica.aura.config.jwt.SuspendedUserIndex;
+import com.clinica.aura.config.jwt.TokenRevocationStore;
+import com.clinica.aura.config.ratelimit.AuthRateLimiter;
 import com.clinica.aura.exceptions.DniAlreadyExistsException;
 import com.clinica.aura.exceptions.EmailAlreadyExistsException;
+import com.clinica.aura.modules.patient.repository.PatientSummaryRepository;
 import com.clinica.aura.modules.person.repository.PersonRepository;
 import com.clinica.aura.modules.professional.repository.ProfessionalRepository;
 import com.clinica.aura.modules.user_account.Enum.EnumRole;
@@ -12,6 +17,7 @@ import com.clinica.aura.modules.user_account.dtoRequest.UserMeRequestDto;
 import com.clinica.aura.modules.user_account.dtoResponse.AuthResponseDto;
 import com.clinica.aura.modules.user_account.dtoResponse.UserMeResponseDto;
 import com.clinica.aura.modules.user_account.dtoResponse.UserResponseDto;
+import com.clinica.aura.modules.user_account.models.RoleModel;
 import com.clinica.aura.modules.user_account.models.UserModel;
 import com.clinica.aura.modules.user_account.repository.RoleRepository;
 import com.clinica.aura.modules.user_account.repository.UserRepository;
@@ -21,7 +27,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -43,70 +49,104 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
+    private final AuthRateLimiter authRateLimiter;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final SuspendedUserIndex suspendedUserIndex;
+    private final RolePermissionSnapshot rolePermissionSnapshot;
     private final RoleRepository roleRepository;
     private final ProfessionalRepository professionalRepository;
     private final PersonRepository personRepository;
+    private final PatientSummaryRepository patientSummaryRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserModel userEntity = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(
+        UserModel userEntity = userRepository.findByEmailWithRoles(email).orElseThrow(() -> new UsernameNotFoundException(
                 "El usuario con el email " + email + "no existe"));
 
-        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-
-        userEntity.getRoles().forEach(role -> {
-            authorities.add(new SimpleGrantedAuthority("ROLE_".concat(role.getEnumRole().name())));
-        });
-
-        userEntity.getRoles().stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.getName())));
-
-        return new User(userEntity.getEmail(),
-                userEntity.getPassword(),
-                userEntity.isEnabled(),
-                true,
-                true,
-                true,
-                authorities);
+        return toUserDetails(userEntity);
     }
 
+    /**
+     * Autentica al usuario y genera su token JWT.
+     * El usuario, sus roles y estado de suspensión se obtienen en una sola consulta (los permisos
+     * salen de la copia en memoria de {@link RolePermissionSnapshot}), que alimenta tanto la verificación de la contraseña como la generación del token.
+     *
+     * @param authDto credenciales del usuario
+     * @return la respuesta de autenticación con el token generado
+     */
     public AuthResponseDto loginUser(@Valid AuthLoginRequestDto authDto) {
         String email = authDto.getEmail();
         String password = authDto.getPassword();
 
-        Long id = userRepository.findByEmail(email)
-                .map(UserModel::getId)
-                .orElseThrow(() -> new UsernameNotFoundException("El Id del usuario con el correo " + email + " no existe"));
+        authRateLimiter.checkEmail(email);
 
+        UserModel userEntity = userRepository.findByEmailWithRoles(email)
+                .orElseThrow(() -> new UsernameNotFoundException("El Id del usuario con el correo " + email + " no existe"));
 
-        Authentication authentication = this.authenticate(email, password);
+        Authentication authentication = this.authenticate(userEntity, password);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
 
-        String token = jwtUtils.generateJwtToken(authentication);
-        return new AuthResponseDto(id, email, "Autenticación exitosa", token, true);
+        Long professionalId = userEntity.getRoles().stream()
+                .anyMatch(role -> role.getEnumRole() == EnumRole.PROFESSIONAL)
+                ? userEntity.getPerson().getId()
+                : null;
+
+        String token = jwtUtils.generateJwtToken(authentication, professionalId);
+        return new AuthResponseDto(userEntity.getId(), email, "Autenticación exitosa", token, true);
 
 
     }
 
     public Authentication authenticate(String username, String password) {
-        UserDetails userDetails = loadUserByUsername(username);
-
-        UserModel userEntity = userRepository.findByEmail(username)
+        UserModel userEntity = userRepository.findByEmailWithRoles(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
 
+        return authenticate(userEntity, password);
+    }
+
+    private Authentication authenticate(UserModel userEntity, String password) {
         if (!userEntity.isEnabled()) {
             throw new DisabledException("Usuario suspendido hasta: " + userEntity.getSuspensionEnd());
         }
 
+        if (!passwordEncoder.matches(password, userEntity.getPassword())) {
+            throw new BadCredentialsException("Contraseña incorrecta");
+        }
 
-        if (!passwordEncoder.matches(password, userDetails.getPassword())) {
-            throw new BadCredentialsException("Contraseña incorrecta");
+        if (passwordEncoder.upgradeEncoding(userEntity.getPassword())) {
+            String rehashed = passwordEncoder.encode(password);
+            userRepository.updatePassword(userEntity.getId(), rehashed);
+            userEntity.setPassword(rehashed);
         }
 
+        return buildAuthentication(userEntity);
+    }
+
+    /**
+     * Construye la autenticación de un usuario ya cargado (con sus roles),
+     * sin volver a consultarlo en la base de datos. Se reutiliza en los flujos de registro.
+     *
+     * @param userEntity el usuario con sus roles inicializados
+     * @return la autenticación lista para generar el token JWT
+     */
+    public Authentication buildAuthentication(UserModel userEntity) {
+        UserDetails userDetails = toUserDetails(userEntity);
         return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+    }
 
+    private UserDetails toUserDetails(UserModel userEntity) {
+        List<GrantedAuthority> authorities = rolePermissionSnapshot.authoritiesFor(userEntity.getRoles().stream()
+                .map(RoleModel::getEnumRole)
+                .toList());
+
+        return new User(userEntity.getEmail(),
+                userEntity.getPassword(),
+                userEntity.isEnabled(),
+                true,
+                true,
+                true,
+                authorities);
     }
 
 
@@ -174,6 +214,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         user.getPerson().setAddress(userMeRequest.getAddress());
 
         userRepository.save(user);
+        patientSummaryRepository.refresh(List.of(user.getPerson().getId()));
         return getCurrentUser(user.getEmail());
     }
 
@@ -187,6 +228,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         LocalDateTime now = LocalDateTime.now();
         user.setSuspensionEnd(calculateSuspensionEnd(now, duration, unit));
         userRepository.save(user);
+        suspendedUserIndex.suspend(user.getEmail(), user.getSuspensionEnd());
+        tokenRevocationStore.revokeAllForSubject(user.getEmail());
+    }
+
+    /**
+     * Revoca el token de la sesión actual para que no pueda reutilizarse aunque se haya copiado la cookie.
+     *
+     * @param token el token JWT de la cookie; si es nulo o inválido no se hace nada
+     */
+    public void logoutUser(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        try {
+            tokenRevocationStore.revoke(jwtUtils.validateToken(token));
+        } catch (JWTVerificationException e) {
+            // Un token inválido ya no autoriza ninguna solicitud
+        }
     }
 
     private LocalDateTime calculateSuspensionEnd(LocalDateTime start, int duration, SuspendRequestDto.TimeUnit unit) {
@@ -204,5 +263,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
         user.setSuspensionEnd(null);
         userRepository.save(user);
+        suspendedUserIndex.activate(user.getEmail());
     }
 }
@@ -0,0 +1,102 @@
+package com.clinica.aura.util;
+
+import com.clinica.aura.exceptions.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Variante de {@link PaginatedResponse} con paginación por cursor (keyset) sobre el id.
+ *
+ * Cada página se obtiene con {@code WHERE id > :afterId ORDER BY id LIMIT size + 1}, por lo que
+ * las páginas profundas cuestan lo mismo que la primera: no hay OFFSET ni COUNT(*) salvo que se
+ * pida el total explícitamente. El cursor es opaco para el cliente y solo debe reenviarse tal cual.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+    /** Total de elementos; null si no se pidió (ver {@link TotalMode}). */
+    private Long totalElements;
+
+    /**
+     * Modo de cálculo del total de elementos en la paginación por cursor.
+     */
+    public enum TotalMode {
+        /** No se calcula el total (por defecto). */
+        NONE,
+        /** Total exacto mediante COUNT(*). */
+        EXACT,
+        /** Estimación de las estadísticas de PostgreSQL, sin recorrer la tabla. */
+        ESTIMATED
+    }
+
+    /**
+     * Ajusta el tamaño de página solicitado al rango [1, {@link #MAX_PAGE_SIZE}].
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Decodifica un cursor opaco al id a partir del cual continuar.
+     *
+     * @param cursor el cursor recibido, o null/vacío para la primera página
+     * @return el último id ya entregado, o 0 para empezar desde el principio
+     * @throws InvalidCursorException si el cursor no es válido
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Cursor de paginación inválido");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor de paginación inválido");
+        }
+    }
+
+    public static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Construye la página a partir de las filas leídas con {@code LIMIT size + 1}: la fila extra
+     * solo indica que hay una página siguiente y no se devuelve.
+     *
+     * @param rows   filas leídas, ordenadas por id ascendente
+     * @param size   tamaño de página ya ajustado
+     * @param idOf   extrae el id de una fila
+     * @param mapper convierte las filas devueltas en DTO
+     * @param total  total de elementos, o null si no se pidió
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Long> idOf,
+                                          Function<List<E>, List<T>> mapper, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPage<>(mapper.apply(pageRows), size, nextCursor, hasNext, total);
+    }
+}
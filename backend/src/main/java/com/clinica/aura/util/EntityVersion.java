@@ -0,0 +1,21 @@
+package com.clinica.aura.util;
+
+/**
+ * Id y versión ({@code @Version}) de una entidad, leídos con una consulta que no carga el resto
+ * de la entidad. Se usa para responder GET condicionales (If-None-Match) con 304 sin armar el DTO.
+ *
+ * @param id      id de la entidad
+ * @param version versión actual de la fila
+ */
+public record EntityVersion(Long id, long version) {
+
+    /**
+     * ETag fuerte de la representación del recurso.
+     *
+     * @param resource nombre del recurso, para que el mismo id en recursos distintos no comparta ETag
+     * @return la ETag entre comillas, por ejemplo {@code "diagnosis-12-3"}
+     */
+    public String eTag(String resource) {
+        return "\"" + resource + "-" + id + "-" + version + "\"";
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinica.aura.util;
 
+import com.clinica.aura.config.jwt.AuthenticatedUser;
 import com.clinica.aura.exceptions.ProfessionalNotFoundException;
 import com.clinica.aura.exceptions.UnauthorizedAccessException;
 import com.clinica.aura.modules.person.model.PersonModel;
@@ -7,7 +8,10 @@ import com.clinica.aura.modules.professional.model.ProfessionalModel;
 import com.clinica.aura.modules.professional.repository.ProfessionalRepository;
 import com.clinica.aura.modules.user_account.models.UserModel;
 import com.clinica.aura.modules.user_account.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -18,8 +22,28 @@ public class SecurityUtil {
     private final UserRepository userRepository;
     private final ProfessionalRepository professionalRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene el profesional autenticado.
+     * Si el token incluye el claim professional_id, devuelve una referencia sin consultar la base de datos
+     * (suficiente para asignar createdBy/updatedBy). Es seguro porque eliminar un profesional revoca todos
+     * sus tokens. Para tokens anteriores al claim, lo busca por email.
+     *
+     * @return el profesional autenticado
+     * @throws UnauthorizedAccessException si no hay un usuario autenticado
+     * @throws ProfessionalNotFoundException si el usuario autenticado no es un profesional
+     */
     public ProfessionalModel getAuthenticatedProfessional() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal
+                && principal.professionalId() != null) {
+            return entityManager.getReference(ProfessionalModel.class, principal.professionalId());
+        }
+
+        String email = authentication != null ? authentication.getName() : "anonymousUser";
 
         if ("anonymousUser".equals(email)) {
             throw new UnauthorizedAccessException("Debe iniciar sesión un profesional para realizar esta operación");
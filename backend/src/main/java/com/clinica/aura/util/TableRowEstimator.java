@@ -0,0 +1,39 @@
+package com.clinica.aura.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Resuelve el total de elementos de una paginación por cursor según el {@link CursorPage.TotalMode} pedido.
+ * La estimación usa {@code pg_class.reltuples}, que PostgreSQL mantiene con ANALYZE/autovacuum,
+ * por lo que no recorre la tabla (no descuenta filas con borrado lógico).
+ */
+@Component
+@RequiredArgsConstructor
+public class TableRowEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param mode       modo de cálculo del total
+     * @param table      nombre de la tabla, usado para la estimación
+     * @param exactCount consulta de conteo exacto, usada solo en modo EXACT
+     * @return el total, o null en modo NONE
+     */
+    public Long total(CursorPage.TotalMode mode, String table, LongSupplier exactCount) {
+        return switch (mode) {
+            case NONE -> null;
+            case EXACT -> exactCount.getAsLong();
+            case ESTIMATED -> estimate(table);
+        };
+    }
+
+    private long estimate(String table) {
+        Long estimate = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE relname = ?", Long.class, table);
+        return estimate == null ? 0L : Math.max(estimate, 0L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.clinica.aura.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza textos para búsquedas: minúsculas, sin acentos y con espacios colapsados.
+ * Por ejemplo "  Gómez   Núñez " se convierte en "gomez nunez".
+ */
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * @param text el texto a normalizar
+     * @return el texto normalizado, o una cadena vacía si es null o está en blanco
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Normaliza y concatena varias partes de un nombre, ignorando las vacías.
+     */
+    public static String normalizeName(String... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (String part : parts) {
+            String normalized = normalize(part);
+            if (!normalized.isEmpty()) {
+                if (!builder.isEmpty()) builder.append(' ');
+                builder.append(normalized);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,160 @@
+-- Esquema base de Aura, equivalente al que generaba Hibernate con ddl-auto=update.
+-- Es idempotente (IF NOT EXISTS) para poder aplicarse también sobre bases existentes
+-- creadas por Hibernate (baseline-on-migrate con baseline-version=0).
+
+CREATE TABLE IF NOT EXISTS person (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dni           VARCHAR(255) UNIQUE,
+    name          VARCHAR(255),
+    last_name     VARCHAR(255),
+    address       VARCHAR(255),
+    birth_date    DATE,
+    phone_number  VARCHAR(255),
+    locality      VARCHAR(255),
+    cuil          VARCHAR(255),
+    search_name   VARCHAR(255)
+);
+ALTER TABLE person ADD COLUMN IF NOT EXISTS search_name VARCHAR(255);
+
+CREATE TABLE IF NOT EXISTS permission (
+    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name  VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name  VARCHAR(255) CHECK (role_name IN ('ADMIN', 'RECEPTIONIST', 'PROFESSIONAL', 'PATIENT'))
+);
+
+CREATE TABLE IF NOT EXISTS role_permission (
+    role_id        BIGINT NOT NULL REFERENCES roles (id),
+    permission_id  BIGINT NOT NULL REFERENCES permission (id),
+    PRIMARY KEY (role_id, permission_id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    password        VARCHAR(255) NOT NULL,
+    register_date   DATE,
+    last_login      DATE,
+    person_id       BIGINT NOT NULL UNIQUE REFERENCES person (id),
+    suspension_end  TIMESTAMP(6)
+);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS suspension_end TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS users_roles (
+    user_id  BIGINT NOT NULL REFERENCES users (id),
+    role_id  BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jti         VARCHAR(255) UNIQUE,
+    subject     VARCHAR(255) NOT NULL,
+    revoked_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS schools (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    school_name   VARCHAR(255),
+    email_school  VARCHAR(255),
+    phone_school  VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS professional (
+    id              BIGINT PRIMARY KEY REFERENCES person (id),
+    license_number  VARCHAR(255) NOT NULL,
+    specialty       VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    deleted         BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS receptionist (
+    id          BIGINT PRIMARY KEY REFERENCES person (id),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS patients (
+    id                   BIGINT PRIMARY KEY REFERENCES person (id),
+    has_insurance        BOOLEAN NOT NULL,
+    insurance_name       VARCHAR(255),
+    address              VARCHAR(255),
+    tutor_name           VARCHAR(255),
+    relation_to_patient  VARCHAR(255),
+    genre                VARCHAR(255),
+    insurance_plan       VARCHAR(255),
+    member_ship_number   VARCHAR(255),
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6),
+    school_model_id      BIGINT REFERENCES schools (id),
+    deleted              BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS professional_patient (
+    patient_id       BIGINT NOT NULL REFERENCES patients (id),
+    professional_id  BIGINT NOT NULL REFERENCES professional (id)
+);
+
+CREATE TABLE IF NOT EXISTS medical_records (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    patient_id                  BIGINT NOT NULL UNIQUE REFERENCES patients (id),
+    created_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    updated_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    created_at                  TIMESTAMP(6),
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS diagnoses (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                       VARCHAR(255),
+    details                     TEXT,
+    medical_record_id           BIGINT NOT NULL REFERENCES medical_records (id),
+    created_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    updated_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    created_at                  DATE,
+    updated_at                  DATE
+);
+
+CREATE TABLE IF NOT EXISTS follow_up_entries (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    medical_record_id           BIGINT NOT NULL REFERENCES medical_records (id),
+    created_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    updated_by_professional_id  BIGINT NOT NULL REFERENCES professional (id),
+    observations                VARCHAR(255),
+    interventions               VARCHAR(255),
+    next_session_instructions   VARCHAR(255),
+    created_at                  TIMESTAMP(6),
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS medical_background (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    patient_id  BIGINT NOT NULL UNIQUE REFERENCES patients (id),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    created_by  BIGINT REFERENCES professional (id),
+    updated_by  BIGINT REFERENCES professional (id)
+);
+
+CREATE TABLE IF NOT EXISTS medical_background_allergies (
+    medical_background_id  BIGINT NOT NULL REFERENCES medical_background (id),
+    allergy                VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS medical_background_disabilities (
+    medical_background_id  BIGINT NOT NULL REFERENCES medical_background (id),
+    disability             VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS medical_notes_files (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_name          VARCHAR(255),
+    patient_name       VARCHAR(255),
+    patient_last_name  VARCHAR(255),
+    uploaded_at        TIMESTAMP(6)
+);
@@ -0,0 +1,33 @@
+-- Índices para las consultas más frecuentes de los repositorios.
+-- medical_records.patient_id, medical_background.patient_id y users.person_id ya quedan
+-- indexados por sus restricciones UNIQUE (relaciones @OneToOne) en V1.
+
+-- DiagnosesModel.medicalRecord / MedicalRecordsModel.diagnoses
+CREATE INDEX IF NOT EXISTS idx_diagnoses_medical_record_id
+    ON diagnoses (medical_record_id);
+
+-- FollowUpEntriesModel.medicals / MedicalRecordsModel.followUps
+CREATE INDEX IF NOT EXISTS idx_follow_up_entries_medical_record_id
+    ON follow_up_entries (medical_record_id);
+
+-- PatientRepository.findRowsByProfessionalId (pacientes de un profesional)
+CREATE INDEX IF NOT EXISTS idx_professional_patient_professional_patient
+    ON professional_patient (professional_id, patient_id);
+
+-- PatientRepository.findProfessionalIdsByPatientIds (profesionales de una página de pacientes)
+CREATE INDEX IF NOT EXISTS idx_professional_patient_patient_professional
+    ON professional_patient (patient_id, professional_id);
+
+-- UserRepository.findAllBySuspensionEndAfter (índice de usuarios suspendidos)
+CREATE INDEX IF NOT EXISTS idx_users_suspension_end
+    ON users (suspension_end)
+    WHERE suspension_end IS NOT NULL;
+
+-- Listados de pacientes activos (paginación por cursor y por página sobre deleted = false)
+CREATE INDEX IF NOT EXISTS idx_patients_active_id
+    ON patients (id)
+    WHERE deleted = false;
+
+-- RevokedTokenRepository.findAllByExpiresAtAfter / deleteExpired
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at
+    ON revoked_tokens (expires_at);
@@ -0,0 +1,8 @@
+-- Búsqueda de pacientes por nombre: índice de trigramas sobre el nombre normalizado.
+-- La columna search_name se completa desde la aplicación (PersonSearchIndexInitializer),
+-- ya que la normalización de acentos se hace en Java.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_person_search_name_trgm
+    ON person USING gin (search_name gin_trgm_ops);
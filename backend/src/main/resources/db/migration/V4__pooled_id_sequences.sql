@@ -0,0 +1,24 @@
+-- Generación de ids con secuencias y optimizador pooled de Hibernate (allocationSize = 50),
+-- en lugar de columnas IDENTITY, para que Hibernate pueda agrupar los INSERT en lotes JDBC.
+--
+-- Con el optimizador pooled cada nextval devuelve el extremo superior de un bloque de 50 ids
+-- (valor - 49 .. valor). Por eso cada secuencia arranca en max(id) + 50 e incrementa de a 50.
+-- Las columnas dejan de ser IDENTITY: los ids los asigna siempre la aplicación.
+
+DO $$
+DECLARE
+    target_table TEXT;
+    next_start   BIGINT;
+BEGIN
+    FOREACH target_table IN ARRAY ARRAY[
+        'person', 'permission', 'roles', 'users', 'revoked_tokens', 'schools',
+        'medical_records', 'diagnoses', 'follow_up_entries', 'medical_background', 'medical_notes_files']
+    LOOP
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) + 50 FROM %I', target_table) INTO next_start;
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH %s INCREMENT BY 50',
+                       target_table || '_seq', next_start);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target_table);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', target_table);
+    END LOOP;
+END
+$$;
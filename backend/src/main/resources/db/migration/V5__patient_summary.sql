@@ -0,0 +1,64 @@
+-- Modelo de lectura desnormalizado de pacientes: una fila por paciente con todas las columnas
+-- que necesita PatientResponseDto (persona, email del usuario, obra social, escuela e ids de
+-- profesionales activos). Lo mantienen PatientService / ProfessionalService en la misma
+-- transacción que la escritura (PatientSummaryRepository.refresh*).
+
+CREATE TABLE IF NOT EXISTS patient_summary (
+    id                   BIGINT PRIMARY KEY REFERENCES patients (id),
+    name                 VARCHAR(255),
+    last_name            VARCHAR(255),
+    phone_number         VARCHAR(255),
+    birth_date           DATE,
+    dni                  VARCHAR(255),
+    email                VARCHAR(255),
+    has_insurance        BOOLEAN NOT NULL,
+    insurance_name       VARCHAR(255),
+    insurance_plan       VARCHAR(255),
+    member_ship_number   VARCHAR(255),
+    address              VARCHAR(255),
+    tutor_name           VARCHAR(255),
+    relation_to_patient  VARCHAR(255),
+    genre                VARCHAR(255),
+    school_id            BIGINT,
+    professional_ids     BIGINT[] NOT NULL DEFAULT '{}',
+    search_name          VARCHAR(255),
+    deleted              BOOLEAN NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL
+);
+
+-- Listados de pacientes activos (por página y por cursor)
+CREATE INDEX IF NOT EXISTS idx_patient_summary_active_id
+    ON patient_summary (id)
+    WHERE deleted = false;
+
+-- Búsqueda por DNI
+CREATE INDEX IF NOT EXISTS idx_patient_summary_dni
+    ON patient_summary (dni)
+    WHERE deleted = false;
+
+-- Búsqueda por nombre (trigramas, ver V3)
+CREATE INDEX IF NOT EXISTS idx_patient_summary_search_name_trgm
+    ON patient_summary USING gin (search_name gin_trgm_ops);
+
+-- Pacientes de un profesional (professional_ids @> ARRAY[:id])
+CREATE INDEX IF NOT EXISTS idx_patient_summary_professional_ids
+    ON patient_summary USING gin (professional_ids);
+
+-- Carga inicial desde las tablas normalizadas
+INSERT INTO patient_summary (id, name, last_name, phone_number, birth_date, dni, email, has_insurance,
+                             insurance_name, insurance_plan, member_ship_number, address, tutor_name,
+                             relation_to_patient, genre, school_id, professional_ids, search_name, deleted,
+                             updated_at)
+SELECT p.id, per.name, per.last_name, per.phone_number, per.birth_date, per.dni, u.email, p.has_insurance,
+       p.insurance_name, p.insurance_plan, p.member_ship_number, p.address, p.tutor_name,
+       p.relation_to_patient, p.genre, p.school_model_id,
+       ARRAY(SELECT pp.professional_id
+             FROM professional_patient pp
+             JOIN professional pr ON pr.id = pp.professional_id AND pr.deleted = false
+             WHERE pp.patient_id = p.id
+             ORDER BY pp.professional_id),
+       per.search_name, p.deleted, now()
+FROM patients p
+JOIN person per ON per.id = p.id
+LEFT JOIN users u ON u.person_id = per.id
+ON CONFLICT (id) DO NOTHING;
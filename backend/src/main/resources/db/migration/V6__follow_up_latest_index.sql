@@ -0,0 +1,4 @@
+-- Últimos seguimientos de un paciente (vista general del paciente):
+-- FollowUpEntriesRepository.findByMedicalsPatientsIdOrderByCreatedAtDesc con LIMIT
+CREATE INDEX IF NOT EXISTS idx_follow_up_entries_record_created_at
+    ON follow_up_entries (medical_record_id, created_at DESC);
@@ -0,0 +1,11 @@
+-- Columna @Version para bloqueo optimista y ETags de los recursos clínicos.
+ALTER TABLE patients           ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE medical_records    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE follow_up_entries  ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE diagnoses          ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE medical_background ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Versión del modelo de lectura de pacientes: se incrementa en cada refresco de la fila
+-- (PatientSummaryRepository.UPSERT_CONFLICT), por lo que cubre también los cambios en person,
+-- users y professional_patient que no modifican la fila de patients.
+ALTER TABLE patient_summary    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,23 @@
+-- Catálogo de especialidades. professional.specialty era texto libre ("Fonoaudiología" y
+-- "fonoaudiologia" eran valores distintos); ahora cada profesional apunta a una entrada del
+-- catálogo, identificada por su nombre normalizado (minúsculas, sin acentos).
+-- professional.specialty se conserva con el nombre canónico del catálogo para las consultas
+-- existentes. La asignación de las filas previas la hace SpecialtyCatalogInitializer, ya que
+-- la normalización de acentos se hace en Java.
+
+CREATE SEQUENCE IF NOT EXISTS specialty_seq START WITH 50 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS specialty (
+    id               BIGINT PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    normalized_name  VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE INDEX IF NOT EXISTS idx_specialty_normalized_name_trgm
+    ON specialty USING gin (normalized_name gin_trgm_ops);
+
+ALTER TABLE professional ADD COLUMN IF NOT EXISTS specialty_id BIGINT REFERENCES specialty (id);
+
+-- Filtro y facetas por especialidad del directorio de profesionales
+CREATE INDEX IF NOT EXISTS idx_professional_active_specialty
+    ON professional (specialty_id, id) WHERE deleted = false;
@@ -0,0 +1,15 @@
+-- Asignaciones profesional-paciente únicas, para que las altas puedan aplicarse con
+-- INSERT ... ON CONFLICT DO NOTHING (ProfessionalAssignmentRepository). Antes se eliminan los
+-- pares duplicados que pudieran existir. El índice único reemplaza al índice simple de V2
+-- sobre las mismas columnas.
+
+DELETE FROM professional_patient a
+    USING professional_patient b
+WHERE a.ctid < b.ctid
+  AND a.professional_id = b.professional_id
+  AND a.patient_id = b.patient_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_professional_patient
+    ON professional_patient (professional_id, patient_id);
+
+DROP INDEX IF EXISTS idx_professional_patient_professional_patient;